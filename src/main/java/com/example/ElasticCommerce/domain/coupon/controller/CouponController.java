@@ -4,7 +4,10 @@ import com.example.ElasticCommerce.domain.coupon.dto.request.ApplyCouponRequest;
 import com.example.ElasticCommerce.domain.coupon.dto.request.IssueCouponRequest;
 import com.example.ElasticCommerce.domain.coupon.dto.request.IssueUserCouponRequest;
 import com.example.ElasticCommerce.domain.coupon.dto.response.CompanyCouponDto;
+import com.example.ElasticCommerce.domain.coupon.dto.response.CouponIssueResponse;
+import com.example.ElasticCommerce.domain.coupon.dto.response.CouponIssueStatus;
 import com.example.ElasticCommerce.domain.coupon.dto.response.UserCouponDto;
+import com.example.ElasticCommerce.domain.coupon.service.CouponAdmissionService;
 import com.example.ElasticCommerce.domain.coupon.service.CouponService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,7 @@ import java.util.List;
 public class CouponController {
 
     private final CouponService couponService;
+    private final CouponAdmissionService couponAdmissionService;
 
     @PostMapping("/company")
     public ResponseEntity<Long> createCompanyCoupon(@Valid @RequestBody IssueCouponRequest request) {
@@ -28,9 +32,26 @@ public class CouponController {
     }
 
     @PostMapping("/issue")
-    public ResponseEntity<Void> issueUserCoupon(@Valid @RequestBody IssueUserCouponRequest dto) {
-        couponService.issueUserCoupon(dto);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<CouponIssueResponse> issueUserCoupon(@Valid @RequestBody IssueUserCouponRequest dto) {
+        CouponIssueResponse response = couponAdmissionService.issue(dto);
+        // 대기열에 들어간 경우 202 와 순번을 반환하고, 클라이언트는 /issue/position 으로 결과를 확인
+        if (response.status() == CouponIssueStatus.QUEUED) {
+            return ResponseEntity.accepted().body(response);
+        }
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/issue/position")
+    public ResponseEntity<CouponIssueResponse> getIssuePosition(
+            @RequestParam String couponCode,
+            @RequestParam Long userId
+    ) {
+        return ResponseEntity.ok(couponAdmissionService.position(couponCode, userId));
+    }
+
+    @PostMapping("/stock/preload")
+    public ResponseEntity<Long> preloadStocks() {
+        return ResponseEntity.ok(couponService.preloadStocks());
     }
 
     @PostMapping("/apply")
@@ -59,9 +80,4 @@ public class CouponController {
         List<UserCouponDto> page = couponService.getUserCoupons(userId);
         return ResponseEntity.ok(page);
     }
-
-    @PostMapping("/issue/no-redis")
-    public void issueWithoutRedis(@RequestBody IssueUserCouponRequest dto) {
-        couponService.issueUserCouponInsertOnly(dto);
-    }
 }
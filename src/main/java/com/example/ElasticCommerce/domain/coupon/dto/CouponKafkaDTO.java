@@ -29,4 +29,18 @@ public record CouponKafkaDTO(
                 requestedAt
         );
     }
+
+    public static CouponKafkaDTO from(Long userId, CouponMetadata metadata, LocalDateTime requestedAt) {
+        return new CouponKafkaDTO(
+                userId,
+                metadata.couponId(),
+                metadata.couponCode(),
+                metadata.discountType(),
+                metadata.discountValue(),
+                metadata.minimumOrderAmount(),
+                metadata.expirationDate(),
+                null,   // 캐시된 메타데이터에는 재고가 없음 (Consumer 는 이 값을 쓰지 않음)
+                requestedAt
+        );
+    }
 }
@@ -0,0 +1,34 @@
+package com.example.ElasticCommerce.domain.coupon.dto;
+
+import com.example.ElasticCommerce.domain.coupon.entity.Coupon;
+import com.example.ElasticCommerce.domain.coupon.entity.DiscountType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발급 요청 경로에서 쓰는 쿠폰 메타데이터 (Redis/로컬 캐시 저장용).
+ * 생성 후 바뀌지 않는 조건만 담습니다. 재고처럼 계속 바뀌는 값은 캐시에 두면 낡은 값이 남으므로 넣지 않습니다.
+ */
+public record CouponMetadata(
+        Long couponId,
+        String couponCode,
+        DiscountType discountType,
+        Long discountValue,
+        Long minimumOrderAmount,
+        LocalDateTime expirationDate
+) {
+    public static CouponMetadata from(Coupon coupon) {
+        return new CouponMetadata(
+                coupon.getCouponId(),
+                coupon.getCouponCode(),
+                coupon.getDiscountType(),
+                coupon.getDiscountValue(),
+                coupon.getMinimumOrderAmount(),
+                coupon.getExpirationDate()
+        );
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return now.isAfter(expirationDate);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.ElasticCommerce.domain.coupon.dto.response;
+
+/**
+ * 쿠폰 발급 요청/대기 순번 조회 응답. position 은 대기 중일 때만 1부터 시작하는 순번, 그 외에는 null.
+ */
+public record CouponIssueResponse(
+        CouponIssueStatus status,
+        Long position
+) {
+    public static CouponIssueResponse of(CouponIssueStatus status) {
+        return new CouponIssueResponse(status, null);
+    }
+
+    public static CouponIssueResponse queued(long position) {
+        return new CouponIssueResponse(CouponIssueStatus.QUEUED, position);
+    }
+}
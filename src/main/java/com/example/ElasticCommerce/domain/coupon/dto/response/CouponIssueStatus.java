@@ -0,0 +1,8 @@
+package com.example.ElasticCommerce.domain.coupon.dto.response;
+
+public enum CouponIssueStatus {
+    ISSUED,
+    QUEUED,
+    SOLD_OUT,
+    NOT_QUEUED
+}
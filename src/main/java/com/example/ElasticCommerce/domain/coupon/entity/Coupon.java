@@ -35,9 +35,13 @@ public class Coupon extends BaseEntity {
     @Column(nullable = false)
     private LocalDateTime expirationDate;
 
+    // 남은 수량. 실시간 값은 Redis(coupon-stock:*)가 기준이며 CouponStockReconciler 가 주기적으로 반영
     @Column(nullable = false)
     private Integer quantity;
 
+    // 발행 총 수량 (재고 정합성 검사 기준, 이 컬럼 추가 전에 만든 쿠폰은 null)
+    private Integer totalQuantity;
+
     @Builder
     public Coupon(String couponCode,
                   DiscountType discountType,
@@ -51,6 +55,7 @@ public class Coupon extends BaseEntity {
         this.minimumOrderAmount = minimumOrderAmount;
         this.expirationDate = expirationDate;
         this.quantity = quantity;
+        this.totalQuantity = quantity;
     }
 
     public boolean isExpired(LocalDateTime now) {
@@ -11,11 +11,19 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "user_coupons")
+// 같은 발급 메시지가 재시도/DLT 로 다시 들어와도 한 사용자에게 같은 쿠폰이 두 번 저장되지 않도록 막음
+@Table(
+        name = "user_coupons",
+        uniqueConstraints = @UniqueConstraint(name = UserCoupon.USER_COUPON_UNIQUE, columnNames = {"user_id", "coupon_id"})
+)
 public class UserCoupon extends BaseEntity {
 
+    public static final String USER_COUPON_UNIQUE = "uk_user_coupons_user_coupon";
+
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼지므로, 시퀀스에서 50개씩 미리 할당받음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_coupon_seq")
+    @SequenceGenerator(name = "user_coupon_seq", sequenceName = "user_coupon_seq", allocationSize = 50)
     private Long userCouponId;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
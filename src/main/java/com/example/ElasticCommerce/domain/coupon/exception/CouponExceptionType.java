@@ -14,7 +14,8 @@ public enum CouponExceptionType implements ExceptionType {
     COUPON_OUT_OF_STOCK            (3003, "쿠폰 재고가 없습니다."),
     COUPON_MINIMUM_AMOUNT_NOT_MET  (3004, "최소 주문 금액에 도달하지 못하여 쿠폰을 사용할 수 없습니다."),
     COUPON_APPLICATION_FAILED      (3005, "쿠폰 적용에 실패했습니다."),
-    COUPON_DUPLICATE_ISSUE         (3006, "이미 발급받은 쿠폰입니다.");
+    COUPON_DUPLICATE_ISSUE         (3006, "이미 발급받은 쿠폰입니다."),
+    COUPON_QUEUE_FULL              (3007, "발급 대기 인원이 많아 요청을 받을 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
     private final int statusCode;
     private final String message;
@@ -0,0 +1,151 @@
+package com.example.ElasticCommerce.domain.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 선착순 쿠폰 발급 대기열(Sorted Set)과 쿠폰별 토큰 버킷.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponAdmissionRepository {
+
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/token-bucket.lua"), Long.class);
+
+    // 대기열이 남아 있는 쿠폰 코드 목록 (배출 스케줄러가 순회)
+    private static final String ACTIVE_QUEUES_KEY = "coupon-queues";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private String queueKey(String couponCode) {
+        return "coupon-queue:" + couponCode;
+    }
+
+    private String bucketKey(String couponCode) {
+        return "coupon-bucket:" + couponCode;
+    }
+
+    /**
+     * 토큰 버킷에서 토큰을 최대 requested 개까지 꺼냅니다.
+     *
+     * @param couponCode    쿠폰 코드
+     * @param requested     요청 토큰 수
+     * @param ratePerSecond 초당 충전 토큰 수
+     * @param capacity      버킷 용량
+     * @return 실제로 꺼낸 토큰 수
+     */
+    public long acquireTokens(String couponCode, int requested, int ratePerSecond, int capacity) {
+        Long granted = redisTemplate.execute(
+                TOKEN_BUCKET_SCRIPT,
+                List.of(bucketKey(couponCode)),
+                String.valueOf(ratePerSecond),
+                String.valueOf(capacity),
+                String.valueOf(requested)
+        );
+        return granted == null ? 0 : granted;
+    }
+
+    /**
+     * 대기자가 없을 때만 토큰 1개를 꺼냅니다. 대기열 확인과 토큰 차감을 한 스크립트로 처리하므로
+     * 확인한 뒤 다른 요청이 대기열에 들어와도 새 요청이 대기자를 앞지르지 않습니다.
+     *
+     * @param couponCode    쿠폰 코드
+     * @param ratePerSecond 초당 충전 토큰 수
+     * @param capacity      버킷 용량
+     * @return 토큰을 꺼냈으면 true
+     */
+    public boolean acquireTokenIfQueueEmpty(String couponCode, int ratePerSecond, int capacity) {
+        Long granted = redisTemplate.execute(
+                TOKEN_BUCKET_SCRIPT,
+                List.of(bucketKey(couponCode), queueKey(couponCode)),
+                String.valueOf(ratePerSecond),
+                String.valueOf(capacity),
+                "1"
+        );
+        return granted != null && granted == 1;
+    }
+
+    /**
+     * 대기열에 사용자를 넣습니다. 이미 대기 중이면 처음 순서를 유지합니다. (ZADD NX)
+     *
+     * @param couponCode 쿠폰 코드
+     * @param userId     사용자
+     * @param arrivedAt  도착 시각(ms), 대기 순서 기준
+     */
+    public void enqueue(String couponCode, Long userId, long arrivedAt) {
+        redisTemplate.opsForZSet().addIfAbsent(queueKey(couponCode), String.valueOf(userId), arrivedAt);
+        redisTemplate.opsForSet().add(ACTIVE_QUEUES_KEY, couponCode);
+    }
+
+    /**
+     * @return 0부터 시작하는 대기 순번, 대기열에 없으면 null
+     */
+    public Long rank(String couponCode, Long userId) {
+        return redisTemplate.opsForZSet().rank(queueKey(couponCode), String.valueOf(userId));
+    }
+
+    public long queueSize(String couponCode) {
+        Long size = redisTemplate.opsForZSet().zCard(queueKey(couponCode));
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 대기열 앞에서 최대 count 명을 꺼냅니다. (ZPOPMIN, 여러 노드가 동시에 꺼내도 같은 사용자를 중복으로 꺼내지 않음)
+     */
+    public List<CouponQueueEntry> popWaiting(String couponCode, long count) {
+        Set<TypedTuple<String>> popped = redisTemplate.opsForZSet().popMin(queueKey(couponCode), count);
+        if (popped == null) {
+            return List.of();
+        }
+        return popped.stream()
+                     .map(tuple -> new CouponQueueEntry(Long.valueOf(tuple.getValue()), tuple.getScore().longValue()))
+                     .collect(Collectors.toList());
+    }
+
+    /**
+     * 꺼냈지만 발급하지 못한 사용자를 원래 도착 시각으로 대기열에 되돌립니다.
+     * 그 사이 같은 사용자가 다시 줄을 섰더라도 처음 순서로 덮어씁니다. (ZADD)
+     */
+    public void requeue(String couponCode, List<CouponQueueEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Set<TypedTuple<String>> tuples = entries.stream()
+                                                .map(entry -> TypedTuple.of(String.valueOf(entry.userId()), (double) entry.arrivedAt()))
+                                                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(queueKey(couponCode), tuples);
+        redisTemplate.opsForSet().add(ACTIVE_QUEUES_KEY, couponCode);
+    }
+
+    public Set<String> activeQueues() {
+        Set<String> codes = redisTemplate.opsForSet().members(ACTIVE_QUEUES_KEY);
+        return codes == null ? Set.of() : codes;
+    }
+
+    /**
+     * 빈 대기열을 순회 대상에서 뺍니다. 빼는 사이에 새 대기자가 들어왔으면 다시 등록합니다.
+     */
+    public void deactivateIfEmpty(String couponCode) {
+        redisTemplate.opsForSet().remove(ACTIVE_QUEUES_KEY, couponCode);
+        if (queueSize(couponCode) > 0) {
+            redisTemplate.opsForSet().add(ACTIVE_QUEUES_KEY, couponCode);
+        }
+    }
+
+    /**
+     * 대기열 전체를 비웁니다. (품절/만료 시)
+     */
+    public void clearQueue(String couponCode) {
+        redisTemplate.delete(queueKey(couponCode));
+        redisTemplate.opsForSet().remove(ACTIVE_QUEUES_KEY, couponCode);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.ElasticCommerce.domain.coupon.repository;
+
+/**
+ * 노드 간 쿠폰 발급 가능 여부 전파 메시지 종류. (coupon-availability 채널)
+ */
+public enum CouponAvailability {
+
+    SOLD_OUT,
+    EXPIRED,
+    AVAILABLE
+}
@@ -0,0 +1,27 @@
+package com.example.ElasticCommerce.domain.coupon.repository;
+
+import java.util.Arrays;
+
+/**
+ * coupon-issue.lua 의 반환 코드.
+ */
+public enum CouponIssueResult {
+
+    ISSUED(0),
+    OUT_OF_STOCK(1),
+    DUPLICATE(2),
+    STOCK_NOT_LOADED(3);
+
+    private final long code;
+
+    CouponIssueResult(long code) {
+        this.code = code;
+    }
+
+    public static CouponIssueResult of(Long code) {
+        return Arrays.stream(values())
+                     .filter(result -> code != null && result.code == code)
+                     .findFirst()
+                     .orElseThrow(() -> new IllegalStateException("알 수 없는 쿠폰 발급 결과 코드: " + code));
+    }
+}
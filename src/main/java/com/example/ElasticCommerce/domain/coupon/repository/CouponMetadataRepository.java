@@ -0,0 +1,78 @@
+package com.example.ElasticCommerce.domain.coupon.repository;
+
+import com.example.ElasticCommerce.domain.coupon.dto.CouponMetadata;
+import com.example.ElasticCommerce.global.redis.RedisKeyspaceMaintenance;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Repository
+@Slf4j
+public class CouponMetadataRepository {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyspaceMaintenance      keyspaceMaintenance;
+    private final ObjectMapper                  objectMapper;
+    private final Duration                      ttl;
+
+    public CouponMetadataRepository(
+            RedisTemplate<String, String> redisTemplate,
+            RedisKeyspaceMaintenance keyspaceMaintenance,
+            ObjectMapper objectMapper,
+            @Value("${coupon.metadata.redis-ttl-seconds}") long ttlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.keyspaceMaintenance = keyspaceMaintenance;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    private String metadataKey(String couponCode) {
+        return "coupon-meta:" + couponCode;
+    }
+
+    /**
+     * Redis 에 저장된 쿠폰 메타데이터를 조회합니다.
+     *
+     * @param couponCode 쿠폰 코드
+     * @return 메타데이터, 없거나 읽을 수 없으면 empty
+     */
+    public Optional<CouponMetadata> find(String couponCode) {
+        String value = redisTemplate.opsForValue().get(metadataKey(couponCode));
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, CouponMetadata.class));
+        } catch (JsonProcessingException e) {
+            log.warn("[CouponMeta][READ] 역직렬화 실패, 캐시 무시: code={}", couponCode, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 쿠폰 메타데이터를 TTL 과 함께 저장합니다. (만료 후에는 DB 에서 다시 적재)
+     *
+     * @param metadata 쿠폰 메타데이터
+     */
+    public void save(CouponMetadata metadata) {
+        try {
+            redisTemplate.opsForValue().set(metadataKey(metadata.couponCode()), objectMapper.writeValueAsString(metadata), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("[CouponMeta][WRITE] 직렬화 실패: code={}", metadata.couponCode(), e);
+        }
+    }
+
+    /**
+     * 테스트나 초기화 용도로, Redis에 저장된 모든 “coupon-meta:*” 키를 삭제합니다.
+     */
+    public void deleteAllKeys() {
+        keyspaceMaintenance.deleteByPattern("coupon-meta:*");
+    }
+}
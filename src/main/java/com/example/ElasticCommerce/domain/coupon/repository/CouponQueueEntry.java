@@ -0,0 +1,10 @@
+package com.example.ElasticCommerce.domain.coupon.repository;
+
+/**
+ * 대기열에서 꺼낸 사용자와 대기 순서 기준(도착 시각, ms). 발급하지 못하면 같은 순서로 되돌릴 때 사용합니다.
+ */
+public record CouponQueueEntry(
+        Long userId,
+        long arrivedAt
+) {
+}
@@ -5,24 +5,26 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
 
     Optional<Coupon> findByCouponCode(String couponCode);
 
+    List<Coupon> findAllByExpirationDateAfter(LocalDateTime expirationDate);
+
+    // Redis 재고를 DB 에 반영 (값이 같으면 행을 건드리지 않음)
+    @Transactional
     @Modifying(clearAutomatically = true)
     @Query("""
   UPDATE Coupon c
-     SET c.quantity = c.quantity - 1
+     SET c.quantity = :quantity
    WHERE c.couponCode = :couponCode
-     AND c.quantity > 0
+     AND c.quantity <> :quantity
 """)
-    int decrementQuantity(@Param("couponCode") String couponCode);
-
-    @Modifying
-    @Query("UPDATE Coupon c SET c.quantity = c.quantity + 1 " +
-            "WHERE c.couponCode = :couponCode")
-    int incrementQuantity(String couponCode);
+    int syncQuantity(@Param("couponCode") String couponCode, @Param("quantity") int quantity);
 }
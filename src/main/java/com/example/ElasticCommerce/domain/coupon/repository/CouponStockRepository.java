@@ -1,35 +1,85 @@
 package com.example.ElasticCommerce.domain.coupon.repository;
 
+import com.example.ElasticCommerce.global.redis.RedisKeyspaceMaintenance;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
 @Repository
 @RequiredArgsConstructor
 public class CouponStockRepository {
+
+    // DefaultRedisScript 는 EVALSHA 로 실행하고, 서버에 스크립트가 없을 때만 EVAL 로 적재합니다.
+    private static final RedisScript<Long> ISSUE_SCRIPT   =
+            RedisScript.of(new ClassPathResource("redis/coupon-issue.lua"), Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-release.lua"), Long.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SNAPSHOT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/coupon-stock-snapshot.lua"), List.class);
+    private static final RedisScript<Long> LOCK_EXPIRE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/lock-expire.lua"), Long.class);
+
+    public static final String AVAILABILITY_CHANNEL = "coupon-availability";
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyspaceMaintenance      keyspaceMaintenance;
 
     private String stockKey(String couponCode) {
         return "coupon-stock:" + couponCode;
     }
 
+    private String issuedKey(String couponCode) {
+        return "coupon-issued:" + couponCode;
+    }
+
     /**
-     * Redis DECR 명령으로 재고를 1만큼 감소시킵니다.
+     * 중복 발급 검사 → 재고 확인 → 차감 → 발급 사용자 기록을 Lua 스크립트 한 번으로 처리합니다.
+     * 재고는 0 아래로 내려가지 않으므로 다른 요청이 음수 재고를 보는 일이 없습니다.
+     * 재고 키가 없으면 아무것도 바꾸지 않고 {@link CouponIssueResult#STOCK_NOT_LOADED} 를 돌려주므로,
+     * 호출 측이 DB 의 현재 재고로 {@link #setIfAbsent} 한 뒤 다시 시도해야 합니다.
+     *
      * @param couponCode 쿠폰 코드
-     * @return 감소 전 재고가 Long으로 리턴됩니다. (키가 없으면 null 또는 -1 반환 가능)
+     * @param userId     발급 요청 사용자
+     * @return 발급 결과
      */
-    public Long decrement(String couponCode) {
-        return redisTemplate.opsForValue().decrement(stockKey(couponCode));
+    public CouponIssueResult tryIssue(String couponCode, Long userId) {
+        Long code = redisTemplate.execute(
+                ISSUE_SCRIPT,
+                List.of(stockKey(couponCode), issuedKey(couponCode)),
+                String.valueOf(userId)
+        );
+        return CouponIssueResult.of(code);
     }
 
     /**
-     * Redis INCR 명령을 호출해 “DECR로 줄어든 재고”를 1 증가시켜 복구합니다.
-     * (예: DECR 호출 결과가 -1이었는데, 이는 “발급 불가”이므로, 다시 INCR을 호출해 Redis 재고를 0으로 되돌립니다.)
+     * {@link #tryIssue} 로 예약한 발급을 취소합니다. (DB 반영 실패 시 보상)
+     * 발급 기록이 남아 있을 때만 재고를 1 되돌리므로 같은 메시지를 여러 번 보상해도 재고가 늘어나지 않습니다.
+     *
      * @param couponCode 쿠폰 코드
-     * @return 증가 후의 재고 (Long)
+     * @param userId     발급 요청 사용자
+     * @return 복구 후 재고, 취소할 발급 기록이 없으면 -1
      */
-    public Long increment(String couponCode) {
-        return redisTemplate.opsForValue().increment(stockKey(couponCode));
+    public Long release(String couponCode, Long userId) {
+        Long restored = redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(stockKey(couponCode), issuedKey(couponCode)),
+                String.valueOf(userId)
+        );
+        // 품절 상태에서 재고가 되살아났으면 각 노드의 품절 표시를 해제
+        if (restored != null && restored == 1) {
+            publishAvailability(couponCode, CouponAvailability.AVAILABLE);
+        }
+        return restored;
     }
 
     /**
@@ -52,6 +102,130 @@ public class CouponStockRepository {
      */
     public void setInitialStock(String couponCode, int quantity) {
         redisTemplate.opsForValue().set(stockKey(couponCode), String.valueOf(quantity));
+        if (quantity > 0) {
+            publishAvailability(couponCode, CouponAvailability.AVAILABLE);
+        }
+    }
+
+    /**
+     * 여러 쿠폰의 재고를 파이프라인으로 한 번에 적재합니다. (행사 전 미리 적재 등)
+     * 이미 있는 재고 키는 건드리지 않으므로(SETNX) 발급 중인 쿠폰에도 안전합니다.
+     * 재고를 강제로 덮어써야 하면 쿠폰 하나씩 {@link #setInitialStock} 을 사용하세요.
+     *
+     * @param stocks   쿠폰 코드 → 재고
+     * @param progress 진행 상황 콜백
+     * @return 처리한 쿠폰 수
+     */
+    public long loadInitialStocks(Map<String, Integer> stocks, RedisKeyspaceMaintenance.ProgressListener progress) {
+        return keyspaceMaintenance.pipelineInBatches(
+                "coupon-stock load",
+                stocks.entrySet(),
+                RedisKeyspaceMaintenance.DEFAULT_BATCH_SIZE,
+                (connection, stock) -> connection.stringCommands().setNX(
+                        stockKey(stock.getKey()).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(stock.getValue()).getBytes(StandardCharsets.UTF_8)
+                ),
+                progress
+        );
+    }
+
+    /**
+     * 정합성 복구용: 재고를 delta 만큼 원자적으로 조정합니다. (INCRBY)
+     *
+     * @param couponCode 쿠폰 코드
+     * @param delta      더할 값 (음수면 차감)
+     * @return 조정 후 재고
+     */
+    public Long adjust(String couponCode, long delta) {
+        Long adjusted = redisTemplate.opsForValue().increment(stockKey(couponCode), delta);
+        if (adjusted != null && adjusted > 0 && adjusted - delta <= 0) {
+            publishAvailability(couponCode, CouponAvailability.AVAILABLE);
+        }
+        return adjusted;
+    }
+
+    /**
+     * 쿠폰 발급 가능 여부 변화를 모든 노드에 전파합니다. (PUBLISH, 메시지 형식 "{상태}:{쿠폰 코드}")
+     * pub/sub 은 전달을 보장하지 않으므로 수신 측은 이를 캐시 힌트로만 사용해야 합니다.
+     *
+     * @param couponCode   쿠폰 코드
+     * @param availability 변경된 상태
+     */
+    public void publishAvailability(String couponCode, CouponAvailability availability) {
+        redisTemplate.convertAndSend(AVAILABILITY_CHANNEL, availability.name() + ":" + couponCode);
+    }
+
+    /**
+     * 사용자가 해당 쿠폰 발급 기록에 있는지 확인합니다. (SISMEMBER)
+     *
+     * @param couponCode 쿠폰 코드
+     * @param userId     사용자
+     * @return 발급(예약)됐으면 true
+     */
+    public boolean isIssued(String couponCode, Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(issuedKey(couponCode), String.valueOf(userId)));
+    }
+
+    /**
+     * 현재 발급 기록(coupon-issued:*)에 남은 사용자 수를 조회합니다. (SCARD)
+     *
+     * @param couponCode 쿠폰 코드
+     * @return 발급 기록 수
+     */
+    public Long countIssued(String couponCode) {
+        return redisTemplate.opsForSet().size(issuedKey(couponCode));
+    }
+
+    /**
+     * 여러 노드 중 한 곳에서만 주기 작업이 돌도록 ttl 동안 유지되는 락을 잡습니다. (SET NX PX)
+     *
+     * @param name  작업 이름
+     * @param owner 락을 잡는 노드의 토큰
+     * @param ttl   락 유지 시간
+     * @return 락을 잡았으면 true
+     */
+    public boolean tryLock(String name, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey(name), owner, ttl));
+    }
+
+    /**
+     * 직접 잡은 락의 남은 유지 시간을 ttl 로 바꿉니다. 다른 노드가 이미 새로 잡은 락이면 아무것도 하지 않습니다.
+     *
+     * @param name  작업 이름
+     * @param owner {@link #tryLock} 에 넘긴 토큰
+     * @param ttl   새 유지 시간
+     * @return 바꿨으면 true
+     */
+    public boolean expireLock(String name, String owner, Duration ttl) {
+        Long changed = redisTemplate.execute(
+                LOCK_EXPIRE_SCRIPT,
+                List.of(lockKey(name)),
+                owner,
+                String.valueOf(ttl.toMillis())
+        );
+        return changed != null && changed == 1;
+    }
+
+    private String lockKey(String name) {
+        return "coupon-lock:" + name;
+    }
+
+    /**
+     * 재고와 발급 기록 수를 한 시점에 읽습니다. 발급/취소 스크립트가 두 값을 함께 바꾸므로
+     * 정상 상태에서는 "재고 + 발급 기록 수" 가 처리 중인 Kafka 메시지와 무관하게 항상 총 수량과 같습니다.
+     *
+     * @param couponCode 쿠폰 코드
+     * @return 재고 키가 없으면 empty
+     */
+    public Optional<CouponStockSnapshot> getSnapshot(String couponCode) {
+        List<?> values = redisTemplate.execute(
+                SNAPSHOT_SCRIPT,
+                List.of(stockKey(couponCode), issuedKey(couponCode))
+        );
+        if (values == null || values.size() < 2) {
+            return Optional.empty();
+        }
+        return Optional.of(new CouponStockSnapshot(((Number) values.get(0)).longValue(), ((Number) values.get(1)).longValue()));
     }
 
     /**
@@ -77,11 +251,11 @@ public class CouponStockRepository {
     }
 
     /**
-     * 테스트나 초기화 용도로, Redis에 저장된 모든 “coupon-stock:*” 키를 삭제합니다.
+     * 테스트나 초기화 용도로, Redis에 저장된 모든 “coupon-stock:*”, “coupon-issued:*” 키를 삭제합니다.
+     * KEYS 대신 SCAN + UNLINK 배치로 지우므로 운영 규모의 키 공간에서도 Redis 를 막지 않습니다.
      */
     public void deleteAllKeys() {
-        // RedisTemplate.keys("coupon-stock:*") 호출 후 해당 키들 전부 삭제
-        redisTemplate.keys("coupon-stock:*")
-                     .forEach(redisTemplate::delete);
+        keyspaceMaintenance.deleteByPattern("coupon-stock:*");
+        keyspaceMaintenance.deleteByPattern("coupon-issued:*");
     }
 }
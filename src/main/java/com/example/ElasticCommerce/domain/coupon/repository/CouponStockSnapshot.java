@@ -0,0 +1,16 @@
+package com.example.ElasticCommerce.domain.coupon.repository;
+
+/**
+ * coupon-stock-snapshot.lua 로 한 시점에 읽은 Redis 재고와 발급 기록(coupon-issued:*) 수.
+ */
+public record CouponStockSnapshot(
+        long stock,
+        long issued
+) {
+    /**
+     * 총 수량 대비 어긋난 양. 양수면 재고가 모자라고(덜 팔림), 음수면 재고가 남아 돎(초과 발급 위험).
+     */
+    public long driftFrom(long totalQuantity) {
+        return totalQuantity - issued - stock;
+    }
+}
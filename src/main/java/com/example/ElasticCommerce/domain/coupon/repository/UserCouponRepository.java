@@ -34,4 +34,7 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
     @Query("SELECT uc FROM UserCoupon uc WHERE uc.user.userId = :userId")
     List<UserCoupon> findAllByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT COUNT(uc) FROM UserCoupon uc WHERE uc.coupon.couponId = :couponId")
+    long countByCouponId(@Param("couponId") Long couponId);
 }
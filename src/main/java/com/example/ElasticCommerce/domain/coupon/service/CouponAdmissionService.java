@@ -0,0 +1,147 @@
+package com.example.ElasticCommerce.domain.coupon.service;
+
+import com.example.ElasticCommerce.domain.coupon.dto.request.IssueUserCouponRequest;
+import com.example.ElasticCommerce.domain.coupon.dto.response.CouponIssueResponse;
+import com.example.ElasticCommerce.domain.coupon.dto.response.CouponIssueStatus;
+import com.example.ElasticCommerce.domain.coupon.exception.CouponExceptionType;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponAdmissionRepository;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponQueueEntry;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponStockRepository;
+import com.example.ElasticCommerce.global.exception.BaseException;
+import com.example.ElasticCommerce.global.exception.type.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.List;
+
+/**
+ * 선착순 쿠폰 발급 앞단의 입장 제어.
+ * 쿠폰별 토큰 버킷이 허용하는 속도까지만 바로 발급하고, 나머지는 Redis Sorted Set 대기열에 도착 순서대로 세운 뒤
+ * 배출 스케줄러가 같은 속도로 발급합니다. 품절/만료가 확인된 쿠폰은 {@link CouponSoldOutRegistry} 로 바로 거절합니다.
+ */
+@Service
+@Slf4j
+public class CouponAdmissionService {
+
+    private final CouponService             couponService;
+    private final CouponAdmissionRepository admissionRepository;
+    private final CouponStockRepository     couponStockRepository;
+    private final CouponSoldOutRegistry     soldOutRegistry;
+    private final Clock                     clock;
+    private final int                       ratePerSecond;
+    private final int                       burst;
+    private final long                      maxQueueSize;
+    private final int                       drainBatchSize;
+
+    public CouponAdmissionService(
+            CouponService couponService,
+            CouponAdmissionRepository admissionRepository,
+            CouponStockRepository couponStockRepository,
+            CouponSoldOutRegistry soldOutRegistry,
+            Clock clock,
+            @Value("${coupon.admission.rate-per-second}") int ratePerSecond,
+            @Value("${coupon.admission.burst}") int burst,
+            @Value("${coupon.admission.max-queue-size}") long maxQueueSize,
+            @Value("${coupon.admission.drain-batch-size}") int drainBatchSize
+    ) {
+        this.couponService = couponService;
+        this.admissionRepository = admissionRepository;
+        this.couponStockRepository = couponStockRepository;
+        this.soldOutRegistry = soldOutRegistry;
+        this.clock = clock;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.maxQueueSize = maxQueueSize;
+        this.drainBatchSize = drainBatchSize;
+    }
+
+    public CouponIssueResponse issue(IssueUserCouponRequest request) {
+        String couponCode = request.couponCode();
+        soldOutRegistry.rejectIfUnavailable(couponCode);
+
+        // 대기자가 있으면 새 요청이 토큰을 먼저 가져가 앞지르지 않도록 대기열 뒤에 세움 (확인과 토큰 차감은 원자적)
+        if (admissionRepository.acquireTokenIfQueueEmpty(couponCode, ratePerSecond, burst)) {
+            couponService.issueUserCoupon(request);
+            return CouponIssueResponse.of(CouponIssueStatus.ISSUED);
+        }
+
+        if (admissionRepository.queueSize(couponCode) >= maxQueueSize) {
+            throw new BadRequestException(CouponExceptionType.COUPON_QUEUE_FULL);
+        }
+        admissionRepository.enqueue(couponCode, request.userId(), clock.millis());
+        Long rank = admissionRepository.rank(couponCode, request.userId());
+        log.debug("[CouponAdmission][QUEUED] code={}, userId={}, rank={}", couponCode, request.userId(), rank);
+        return rank == null
+                // 이미 배출 스케줄러가 꺼내 간 경우
+                ? position(couponCode, request.userId())
+                : CouponIssueResponse.queued(rank + 1);
+    }
+
+    public CouponIssueResponse position(String couponCode, Long userId) {
+        if (couponStockRepository.isIssued(couponCode, userId)) {
+            return CouponIssueResponse.of(CouponIssueStatus.ISSUED);
+        }
+        Long rank = admissionRepository.rank(couponCode, userId);
+        if (rank != null) {
+            return CouponIssueResponse.queued(rank + 1);
+        }
+        Long stock = couponStockRepository.getStock(couponCode);
+        if (soldOutRegistry.isUnavailable(couponCode) || (stock != null && stock <= 0)) {
+            return CouponIssueResponse.of(CouponIssueStatus.SOLD_OUT);
+        }
+        return CouponIssueResponse.of(CouponIssueStatus.NOT_QUEUED);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.admission.drain-interval-ms}")
+    public void drainQueues() {
+        for (String couponCode : admissionRepository.activeQueues()) {
+            try {
+                drain(couponCode);
+            } catch (RuntimeException e) {
+                log.error("[CouponAdmission][DRAIN] 대기열 처리 실패: code={}", couponCode, e);
+            }
+        }
+    }
+
+    private void drain(String couponCode) {
+        if (soldOutRegistry.isUnavailable(couponCode)) {
+            admissionRepository.clearQueue(couponCode);
+            return;
+        }
+        long waiting = admissionRepository.queueSize(couponCode);
+        if (waiting == 0) {
+            admissionRepository.deactivateIfEmpty(couponCode);
+            return;
+        }
+
+        // 여러 노드가 함께 배출해도 토큰 버킷이 Redis 에 있으므로 전체 발급 속도는 rate-per-second 를 넘지 않음
+        long granted = admissionRepository.acquireTokens(couponCode, (int) Math.min(waiting, drainBatchSize), ratePerSecond, burst);
+        if (granted == 0) {
+            return;
+        }
+        List<CouponQueueEntry> popped = admissionRepository.popWaiting(couponCode, granted);
+        for (int i = 0; i < popped.size(); i++) {
+            Long userId = popped.get(i).userId();
+            try {
+                couponService.issueUserCoupon(IssueUserCouponRequest.from(userId, couponCode));
+            } catch (BaseException e) {
+                if (soldOutRegistry.isUnavailable(couponCode)) {
+                    // 남은 대기자는 발급받을 수 없으므로 대기열 정리 (순번 조회 시 SOLD_OUT)
+                    admissionRepository.clearQueue(couponCode);
+                    log.info("[CouponAdmission][SOLD_OUT] 품절/만료로 대기열 정리: code={}", couponCode);
+                    return;
+                }
+                log.info("[CouponAdmission][DRAIN] 발급 거절: code={}, userId={}, reason={}", couponCode, userId, e.getMessage());
+            } catch (RuntimeException e) {
+                // Redis/Kafka 장애 등 사용자 탓이 아닌 실패: 이 사용자와 아직 처리하지 않은 사용자를 원래 순서로 되돌림
+                admissionRepository.requeue(couponCode, popped.subList(i, popped.size()));
+                log.error("[CouponAdmission][DRAIN] 발급 실패, 대기열 복귀: code={}, userId={}, 복귀={}명",
+                        couponCode, userId, popped.size() - i, e);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.ElasticCommerce.domain.coupon.service;
+
+import com.example.ElasticCommerce.domain.coupon.dto.CouponKafkaDTO;
+import com.example.ElasticCommerce.domain.coupon.entity.Coupon;
+import com.example.ElasticCommerce.domain.coupon.entity.UserCoupon;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponRepository;
+import com.example.ElasticCommerce.domain.coupon.repository.UserCouponRepository;
+import com.example.ElasticCommerce.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 메시지를 user_coupons 에 반영합니다.
+ * 재고는 Redis 에서 이미 차감됐고 coupons.quantity 는 CouponStockReconciler 가 주기적으로 맞추므로 여기서는 INSERT 만 합니다.
+ * 사용자/쿠폰은 getReferenceById 로 프록시만 잡아 SELECT 없이 FK 로만 연결하며,
+ * 존재하지 않는 사용자/쿠폰은 flush 시점의 FK 위반(DataAccessException)으로 드러납니다.
+ * 이미 발급된 (사용자, 쿠폰) 은 유니크 키 위반으로 드러나며, 호출한 쪽은 {@link #isAlreadyIssued} 로 발급 완료로 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponIssueWriter {
+
+    private final CouponRepository couponRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 같은 쿠폰의 발급 요청 묶음을 배치 INSERT 로 반영합니다.
+     */
+    @Transactional
+    public void issueAll(List<CouponKafkaDTO> requests) {
+        Coupon coupon = couponRepository.getReferenceById(requests.get(0).couponId());
+        List<UserCoupon> userCoupons = requests.stream()
+                                               .map(request -> UserCoupon.builder()
+                                                                         .user(userRepository.getReferenceById(request.userId()))
+                                                                         .coupon(coupon)
+                                                                         .build())
+                                               .collect(Collectors.toList());
+        userCouponRepository.saveAll(userCoupons);
+        // 커밋 전에 flush 해 FK 위반 시 묶음 전체가 롤백되도록 함
+        userCouponRepository.flush();
+    }
+
+    /**
+     * 발급 요청 한 건을 반영합니다. (묶음 저장이 실패했을 때의 대체 경로)
+     */
+    @Transactional
+    public void issueOne(CouponKafkaDTO request) {
+        userCouponRepository.saveAndFlush(
+                UserCoupon.builder()
+                          .user(userRepository.getReferenceById(request.userId()))
+                          .coupon(couponRepository.getReferenceById(request.couponId()))
+                          .build()
+        );
+    }
+
+    /**
+     * 저장 실패가 (사용자, 쿠폰) 유니크 키 위반, 즉 이미 발급된 요청의 재처리인지 확인합니다.
+     */
+    public static boolean isAlreadyIssued(DataAccessException ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation
+                    && violation.getConstraintName() != null
+                    && violation.getConstraintName().toLowerCase().contains(UserCoupon.USER_COUPON_UNIQUE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
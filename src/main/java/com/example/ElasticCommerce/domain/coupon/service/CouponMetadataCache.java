@@ -0,0 +1,69 @@
+package com.example.ElasticCommerce.domain.coupon.service;
+
+import com.example.ElasticCommerce.domain.coupon.dto.CouponMetadata;
+import com.example.ElasticCommerce.domain.coupon.exception.CouponExceptionType;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponMetadataRepository;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponRepository;
+import com.example.ElasticCommerce.global.exception.type.NotFoundException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 쿠폰 발급 경로용 메타데이터 조회: 로컬 캐시 → Redis → MySQL 순으로 찾고, 아래 계층에서 찾으면 위 계층을 채웁니다.
+ * 쿠폰 조건(할인, 만료일)은 생성 후 바뀌지 않으므로 짧은 로컬 TTL 로도 대부분의 요청이 MySQL 까지 가지 않습니다.
+ */
+@Component
+@Slf4j
+public class CouponMetadataCache {
+
+    private final CouponMetadataRepository      couponMetadataRepository;
+    private final CouponRepository              couponRepository;
+    private final Cache<String, CouponMetadata> localCache;
+
+    public CouponMetadataCache(
+            CouponMetadataRepository couponMetadataRepository,
+            CouponRepository couponRepository,
+            @Value("${coupon.metadata.local-maximum-size}") long maximumSize,
+            @Value("${coupon.metadata.local-ttl-seconds}") long ttlSeconds
+    ) {
+        this.couponMetadataRepository = couponMetadataRepository;
+        this.couponRepository = couponRepository;
+        this.localCache = Caffeine.newBuilder()
+                                  .maximumSize(maximumSize)
+                                  .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                                  .build();
+    }
+
+    public CouponMetadata get(String couponCode) {
+        return localCache.get(couponCode, this::load);
+    }
+
+    public void put(CouponMetadata metadata) {
+        couponMetadataRepository.save(metadata);
+        localCache.put(metadata.couponCode(), metadata);
+    }
+
+    public void evictLocal() {
+        localCache.invalidateAll();
+    }
+
+    private CouponMetadata load(String couponCode) {
+        Optional<CouponMetadata> cached = couponMetadataRepository.find(couponCode);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        log.info("[CouponMeta][LOAD] Redis 미스, DB 조회: code={}", couponCode);
+        CouponMetadata metadata = couponRepository.findByCouponCode(couponCode)
+                                                  .map(CouponMetadata::from)
+                                                  .orElseThrow(() -> new NotFoundException(CouponExceptionType.COUPON_NOT_FOUND));
+        couponMetadataRepository.save(metadata);
+        return metadata;
+    }
+}
@@ -9,6 +9,7 @@ import com.example.ElasticCommerce.domain.coupon.dto.response.UserCouponDto;
 import com.example.ElasticCommerce.domain.coupon.entity.Coupon;
 import com.example.ElasticCommerce.domain.coupon.entity.UserCoupon;
 import com.example.ElasticCommerce.domain.coupon.exception.CouponExceptionType;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponIssueResult;
 import com.example.ElasticCommerce.domain.coupon.repository.CouponRepository;
 import com.example.ElasticCommerce.domain.coupon.repository.CouponStockRepository;
 import com.example.ElasticCommerce.domain.coupon.repository.UserCouponRepository;
@@ -18,17 +19,22 @@ import com.example.ElasticCommerce.domain.user.repository.UserRepository;
 import com.example.ElasticCommerce.global.exception.type.BadRequestException;
 import com.example.ElasticCommerce.global.exception.type.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class CouponService {
 
@@ -37,6 +43,8 @@ public class CouponService {
     private final UserRepository userRepository;
     private final CouponStockRepository couponStockRepository;
     private final CouponKafkaProducerService couponKafkaProducerService;
+    private final CouponMetadataCache couponMetadataCache;
+    private final CouponSoldOutRegistry couponSoldOutRegistry;
     private final Clock clock;
 
     @Transactional
@@ -64,39 +72,51 @@ public class CouponService {
                               .build();
 
         couponRepository.save(coupon);
-        couponStockRepository.setIfAbsent(request.couponCode(), request.quantity());
+
+        // 롤백된 쿠폰이 캐시/재고 키로 남지 않도록 커밋 후에만 Redis 와 로컬 캐시를 채움
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronizationAdapter() {
+                    @Override
+                    public void afterCommit() {
+                        couponStockRepository.setIfAbsent(coupon.getCouponCode(), coupon.getQuantity());
+                        couponMetadataCache.put(CouponMetadata.from(coupon));
+                    }
+                }
+        );
 
         return coupon.getCouponId();
     }
 
-    @Transactional
+    // MySQL 을 거치지 않도록 트랜잭션 없이 캐시된 메타데이터와 Redis 만 사용 (DB 쓰기는 Consumer 가 담당)
     public void issueUserCoupon(IssueUserCouponRequest dto) {
         Long userId    = dto.userId();
         String couponCode = dto.couponCode();
         LocalDateTime now = LocalDateTime.now(clock);
 
-        // 1) DB에서 Coupon 조회(유효성 체크)
-        Coupon coupon = couponRepository.findByCouponCode(couponCode)
-                                        .orElseThrow(() -> new NotFoundException(CouponExceptionType.COUPON_NOT_FOUND));
+        // 0) 품절/만료로 알려진 쿠폰은 I/O 없이 거절
+        couponSoldOutRegistry.rejectIfUnavailable(couponCode);
+
+        // 1) 쿠폰 메타데이터 조회 (로컬 캐시 → Redis → DB)
+        CouponMetadata coupon = couponMetadataCache.get(couponCode);
 
         // 2) 쿠폰 만료 여부 체크
         if (coupon.isExpired(now)) {
+            couponSoldOutRegistry.markExpired(couponCode);
             throw new BadRequestException(CouponExceptionType.COUPON_EXPIRED);
         }
 
-        // 3) 중복 발급 검사
-        userCouponRepository.findByUserIdAndCouponCode(userId, couponCode)
-                            .ifPresent(uc -> { throw new BadRequestException(CouponExceptionType.COUPON_DUPLICATE_ISSUE); });
-
-        // ─── 여기서 **무조건** SETNX(setIfAbsent)로 “한 번만 초기화”를 시도한다.
-        //     기존의 existsKey+setInitialStock을 모두 대체.
-        couponStockRepository.setIfAbsent(couponCode, coupon.getQuantity());
-
-        // ─── Redis DECR 명령으로 재고를 1만큼 감소
-        Long newStock = couponStockRepository.decrement(couponCode);
-        if (newStock < 0) {
-            // 재고가 이미 없으면, Redis 값(–1)을 바로 복구하고 예외
-            couponStockRepository.increment(couponCode);
+        // 3) 중복 발급 검사 + 재고 차감을 Redis Lua 스크립트 한 번으로 처리
+        CouponIssueResult result = couponStockRepository.tryIssue(couponCode, userId);
+        if (result == CouponIssueResult.STOCK_NOT_LOADED) {
+            // 재고 키가 없을 때만 DB 의 현재 재고로 초기화 (다른 노드가 먼저 채웠으면 그 값을 유지)
+            loadStock(couponCode);
+            result = couponStockRepository.tryIssue(couponCode, userId);
+        }
+        if (result == CouponIssueResult.DUPLICATE) {
+            throw new BadRequestException(CouponExceptionType.COUPON_DUPLICATE_ISSUE);
+        }
+        if (result == CouponIssueResult.OUT_OF_STOCK) {
+            couponSoldOutRegistry.markSoldOut(couponCode);
             throw new BadRequestException(CouponExceptionType.COUPON_OUT_OF_STOCK);
         }
 
@@ -105,6 +125,29 @@ public class CouponService {
         couponKafkaProducerService.sendCoupon("coupon-topic", kafkaDTO);
     }
 
+    private void loadStock(String couponCode) {
+        Coupon coupon = couponRepository.findByCouponCode(couponCode)
+                                        .orElseThrow(() -> new NotFoundException(CouponExceptionType.COUPON_NOT_FOUND));
+        log.info("[CouponStock][LOAD] 재고 키 없음, DB 재고로 초기화: code={}, quantity={}", couponCode, coupon.getQuantity());
+        couponStockRepository.setIfAbsent(couponCode, coupon.getQuantity());
+    }
+
+    /**
+     * 만료되지 않은 쿠폰 재고를 Redis 에 미리 적재합니다. (이미 재고 키가 있는 쿠폰은 유지)
+     * 첫 발급 요청이 재고 키가 없어 DB 를 조회하기 전에 행사 쿠폰을 한 번에 준비할 때 사용합니다.
+     *
+     * @return 적재 대상 쿠폰 수
+     */
+    @Transactional(readOnly = true)
+    public long preloadStocks() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<String, Integer> stocks = couponRepository.findAllByExpirationDateAfter(now).stream()
+                                                      .collect(Collectors.toMap(Coupon::getCouponCode, Coupon::getQuantity));
+
+        return couponStockRepository.loadInitialStocks(stocks, processed ->
+                log.info("[CouponStock][PRELOAD] 진행 {}/{}", processed, stocks.size()));
+    }
+
     @Transactional
     public Long applyCoupon(ApplyCouponRequest applyCouponRequest) {
         Long userId = applyCouponRequest.userId();
@@ -141,26 +184,6 @@ public class CouponService {
         return coupon.calculateDiscountAmount(orderAmount);
     }
 
-    @Transactional
-    public void issueUserCouponInsertOnly(IssueUserCouponRequest request) {
-        Long userId = request.userId();
-        String couponCode = request.couponCode();
-        LocalDateTime now = LocalDateTime.now(clock);
-
-        Coupon coupon = couponRepository.findByCouponCode(couponCode)
-                                        .orElseThrow(() -> new NotFoundException(CouponExceptionType.COUPON_NOT_FOUND));
-
-        if (coupon.isExpired(now)) {
-            throw new BadRequestException(CouponExceptionType.COUPON_EXPIRED);
-        }
-
-        userRepository.findById(userId)
-                      .orElseThrow(() -> new NotFoundException(UserExceptionType.NOT_FOUND_USER));
-
-        CouponKafkaDTO kafkaDTO = CouponKafkaDTO.from(userId, coupon, now);
-        couponKafkaProducerService.sendCoupon("coupon-topic", kafkaDTO);
-    }
-
     public Page<CompanyCouponDto> getAllCompanyCoupons(int page, int size) {
         return couponRepository.findAll(PageRequest.of(page, size))
                                .map(CompanyCouponDto::from);
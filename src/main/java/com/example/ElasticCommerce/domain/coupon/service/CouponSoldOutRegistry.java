@@ -0,0 +1,136 @@
+package com.example.ElasticCommerce.domain.coupon.service;
+
+import com.example.ElasticCommerce.domain.coupon.exception.CouponExceptionType;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponAvailability;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponStockRepository;
+import com.example.ElasticCommerce.global.exception.type.BadRequestException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 품절/만료된 쿠폰 코드 (노드 로컬).
+ * 품절이나 만료를 확인한 노드가 Redis pub/sub 으로 알리면 모든 노드가 표시를 채우고,
+ * 이후 요청은 MySQL/Redis 를 거치지 않고 바로 거절합니다.
+ * 재고가 다시 채워지면(초기화, 보상, 정합성 보정) AVAILABLE 메시지로 표시를 지우며,
+ * 메시지 유실에 대비해 품절 표시는 recheck-ms 가 지나면 Redis 재고로 다시 확인합니다.
+ */
+@Component
+@Slf4j
+public class CouponSoldOutRegistry implements MessageListener {
+
+    private final CouponStockRepository         couponStockRepository;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Map<String, Mark>             marks = new ConcurrentHashMap<>();
+    private final long                          recheckNanos;
+
+    public CouponSoldOutRegistry(
+            CouponStockRepository couponStockRepository,
+            RedisMessageListenerContainer listenerContainer,
+            @Value("${coupon.sold-out.recheck-ms}") long recheckMillis
+    ) {
+        this.couponStockRepository = couponStockRepository;
+        this.listenerContainer = listenerContainer;
+        this.recheckNanos = recheckMillis * 1_000_000L;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CouponStockRepository.AVAILABILITY_CHANNEL));
+    }
+
+    /**
+     * 품절/만료로 표시된 쿠폰이면 I/O 없이 예외를 던집니다.
+     */
+    public void rejectIfUnavailable(String couponCode) {
+        Mark mark = currentMark(couponCode);
+        if (mark == null) {
+            return;
+        }
+        throw new BadRequestException(mark.state() == CouponAvailability.EXPIRED
+                ? CouponExceptionType.COUPON_EXPIRED
+                : CouponExceptionType.COUPON_OUT_OF_STOCK);
+    }
+
+    public boolean isUnavailable(String couponCode) {
+        return currentMark(couponCode) != null;
+    }
+
+    public void markSoldOut(String couponCode) {
+        markAndPublish(couponCode, CouponAvailability.SOLD_OUT);
+    }
+
+    public void markExpired(String couponCode) {
+        markAndPublish(couponCode, CouponAvailability.EXPIRED);
+    }
+
+    public void clearAll() {
+        marks.clear();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(':');
+        if (separator < 0) {
+            log.warn("[CouponSoldOut][SUBSCRIBE] 알 수 없는 메시지: {}", body);
+            return;
+        }
+        try {
+            apply(body.substring(separator + 1), CouponAvailability.valueOf(body.substring(0, separator)));
+        } catch (IllegalArgumentException e) {
+            log.warn("[CouponSoldOut][SUBSCRIBE] 알 수 없는 메시지: {}", body);
+        }
+    }
+
+    private void markAndPublish(String couponCode, CouponAvailability state) {
+        // 다른 노드의 전파를 기다리지 않고 현재 노드에 먼저 반영
+        if (apply(couponCode, state)) {
+            try {
+                couponStockRepository.publishAvailability(couponCode, state);
+            } catch (RuntimeException e) {
+                log.warn("[CouponSoldOut][PUBLISH] 전파 실패, 로컬에만 반영: code={}, state={}", couponCode, state, e);
+            }
+        }
+    }
+
+    /**
+     * @return 표시가 새로 생겼으면 true (이미 같은 표시가 있으면 다시 전파하지 않음)
+     */
+    private boolean apply(String couponCode, CouponAvailability state) {
+        if (state == CouponAvailability.AVAILABLE) {
+            marks.remove(couponCode);
+            return false;
+        }
+        Mark previous = marks.put(couponCode, new Mark(state, System.nanoTime()));
+        return previous == null || previous.state() != state;
+    }
+
+    private Mark currentMark(String couponCode) {
+        Mark mark = marks.get(couponCode);
+        if (mark == null) {
+            return null;
+        }
+        // 만료는 되돌릴 수 없으므로 유지하고, 품절만 주기적으로 Redis 재고로 다시 확인
+        if (mark.state() == CouponAvailability.SOLD_OUT && System.nanoTime() - mark.markedAt() >= recheckNanos) {
+            marks.remove(couponCode, mark);
+            return null;
+        }
+        return mark;
+    }
+
+    private record Mark(
+            CouponAvailability state,
+            long markedAt
+    ) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.ElasticCommerce.domain.coupon.service;
+
+import com.example.ElasticCommerce.domain.coupon.entity.Coupon;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponRepository;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponStockRepository;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponStockSnapshot;
+import com.example.ElasticCommerce.domain.coupon.repository.UserCouponRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 실시간 재고를 coupons.quantity 에 주기적으로 반영(write-behind)하고, 재고 어긋남을 검사/복구합니다.
+ *
+ * 발급/취소 Lua 스크립트가 재고와 발급 기록(coupon-issued:*)을 함께 바꾸므로 "총 수량 = Redis 재고 + 발급 기록 수" 는
+ * Kafka 로 처리 중인 발급과 무관하게 항상 성립해야 합니다. 그래서 user_coupons 가 아니라 이 식으로 어긋남을 판단합니다.
+ * 재고가 남아 도는 쪽(초과 발급 위험)만 자동으로 줄이고, 재고가 모자란 쪽은 발급 기록 유실 등으로도 생기므로
+ * 자동으로 늘리지 않고 알리기만 합니다.
+ */
+@Component
+@Slf4j
+public class CouponStockReconciler {
+
+    private static final String LOCK_NAME = "stock-reconcile";
+
+    private final CouponRepository      couponRepository;
+    private final UserCouponRepository  userCouponRepository;
+    private final CouponStockRepository couponStockRepository;
+    private final Clock                 clock;
+    private final Duration              interval;
+    private final Duration              lockTtl;
+    private final Duration              expiredGrace;
+    private final String                lockOwner = UUID.randomUUID().toString();
+
+    public CouponStockReconciler(
+            CouponRepository couponRepository,
+            UserCouponRepository userCouponRepository,
+            CouponStockRepository couponStockRepository,
+            Clock clock,
+            @Value("${coupon.reconcile.interval-ms}") long intervalMillis,
+            @Value("${coupon.reconcile.lock-ttl-ms}") long lockTtlMillis,
+            @Value("${coupon.reconcile.expired-grace-hours}") long expiredGraceHours
+    ) {
+        this.couponRepository = couponRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.couponStockRepository = couponStockRepository;
+        this.clock = clock;
+        this.interval = Duration.ofMillis(intervalMillis);
+        this.lockTtl = Duration.ofMillis(Math.max(lockTtlMillis, intervalMillis));
+        this.expiredGrace = Duration.ofHours(expiredGraceHours);
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.reconcile.interval-ms}", initialDelayString = "${coupon.reconcile.interval-ms}")
+    public void reconcile() {
+        // 여러 노드가 같은 주기에 중복 보정하지 않도록 한 노드만 실행 (실행 중에는 최악의 실행 시간만큼 락 유지)
+        if (!couponStockRepository.tryLock(LOCK_NAME, lockOwner, lockTtl)) {
+            return;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<Coupon> coupons = couponRepository.findAllByExpirationDateAfter(now.minus(expiredGrace));
+            int synced = 0;
+            for (Coupon coupon : coupons) {
+                try {
+                    if (reconcile(coupon)) {
+                        synced++;
+                    }
+                } catch (RuntimeException e) {
+                    log.error("[CouponReconcile][ERROR] 쿠폰 재고 반영 실패: code={}", coupon.getCouponCode(), e);
+                }
+            }
+            if (synced > 0) {
+                log.info("[CouponReconcile][SYNC] 대상={}건, DB 반영={}건", coupons.size(), synced);
+            }
+        } finally {
+            // 끝나면 다음 실행까지는 다른 노드도 돌지 않도록 남은 유지 시간을 주기로 줄임
+            couponStockRepository.expireLock(LOCK_NAME, lockOwner, interval);
+        }
+    }
+
+    private boolean reconcile(Coupon coupon) {
+        String code = coupon.getCouponCode();
+        Optional<CouponStockSnapshot> snapshot = couponStockRepository.getSnapshot(code);
+        if (snapshot.isEmpty()) {
+            // 아직 Redis 재고가 초기화되지 않은 쿠폰
+            return false;
+        }
+
+        long redisStock = snapshot.get().stock();
+        boolean synced = couponRepository.syncQuantity(code, Math.toIntExact(redisStock)) == 1;
+        detectDrift(coupon, snapshot.get());
+        return synced;
+    }
+
+    private void detectDrift(Coupon coupon, CouponStockSnapshot snapshot) {
+        String code = coupon.getCouponCode();
+        if (coupon.getTotalQuantity() == null) {
+            return;
+        }
+
+        long drift = snapshot.driftFrom(coupon.getTotalQuantity());
+        if (drift == 0) {
+            return;
+        }
+
+        if (drift > 0) {
+            // 재고를 늘리는 보정은 발급 기록이 유실된 경우 초과 발급으로 이어지므로 운영자가 확인
+            log.error("[CouponReconcile][DRIFT] 재고 부족 어긋남, 자동 보정 안 함: code={}, total={}, redis={}, 발급기록={}, user_coupons={}, drift={}",
+                    code, coupon.getTotalQuantity(), snapshot.stock(), snapshot.issued(),
+                    userCouponRepository.countByCouponId(coupon.getCouponId()), drift);
+            return;
+        }
+
+        // 재고가 남아 돎: 발급/취소는 재고와 발급 기록을 함께 바꾸므로 읽은 뒤 발급이 있어도 drift 만큼 줄이면 맞음
+        long delta = Math.max(drift, -snapshot.stock());
+        Long repaired = couponStockRepository.adjust(code, delta);
+        log.warn("[CouponReconcile][REPAIR] 재고 보정: code={}, total={}, 발급기록={}, redis={} → {}",
+                code, coupon.getTotalQuantity(), snapshot.issued(), snapshot.stock(), repaired);
+        if (delta != drift) {
+            log.error("[CouponReconcile][OVERSOLD] 발급 기록이 총 수량을 넘음: code={}, total={}, 발급기록={}",
+                    code, coupon.getTotalQuantity(), snapshot.issued());
+        }
+        if (repaired != null) {
+            couponRepository.syncQuantity(code, Math.toIntExact(repaired));
+        }
+    }
+}
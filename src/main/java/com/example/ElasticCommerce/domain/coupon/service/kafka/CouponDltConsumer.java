@@ -9,6 +9,7 @@ import com.example.ElasticCommerce.domain.coupon.repository.CouponFailedEventRep
 import com.example.ElasticCommerce.domain.coupon.repository.CouponRepository;
 import com.example.ElasticCommerce.domain.coupon.repository.UserCouponRepository;
 import com.example.ElasticCommerce.domain.coupon.repository.CouponStockRepository;
+import com.example.ElasticCommerce.domain.coupon.service.CouponIssueWriter;
 import com.example.ElasticCommerce.domain.user.entity.User;
 import com.example.ElasticCommerce.domain.user.exception.UserExceptionType;
 import com.example.ElasticCommerce.domain.user.repository.UserRepository;
@@ -21,7 +22,6 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @Slf4j
@@ -41,7 +41,6 @@ public class CouponDltConsumer {
             containerFactory = "kafkaListenerContainerFactory",
             concurrency      = "6"
     )
-    @Transactional
     public void consumeCouponDlt(String message, Acknowledgment ack) {
         log.info("[DLT] 메시지 수신: {}", message);
 
@@ -56,32 +55,31 @@ public class CouponDltConsumer {
             return;
         }
 
+        // 재고는 Redis 에서 이미 차감됨 (coupons.quantity 는 CouponStockReconciler 가 반영)
         String code = dto.couponCode();
-        int updated = couponRepository.decrementQuantity(code);
-        if (updated != 1) {
-            log.warn("[DLT] 재고 부족 또는 잘못된 코드: {}", code);
-            couponStockRepository.increment(code);
-            ack.acknowledge();
-            return;
-        }
-
         try {
             // 4) 발급 기록 저장
             User user = userRepository.findById(dto.userId())
                                       .orElseThrow(() -> new NotFoundException(UserExceptionType.NOT_FOUND_USER));
             Coupon coupon = couponRepository.findByCouponCode(code)
                                             .orElseThrow(() -> new NotFoundException(CouponExceptionType.COUPON_NOT_FOUND));
-            userCouponRepository.save(UserCoupon.builder()
-                                                .user(user)
-                                                .coupon(coupon)
-                                                .build());
+            // 자체 트랜잭션으로 바로 flush 해 저장 실패를 여기서 잡음
+            userCouponRepository.saveAndFlush(UserCoupon.builder()
+                                                        .user(user)
+                                                        .coupon(coupon)
+                                                        .build());
 
             log.info("[DLT] 재처리 성공: couponCode={}, userId={}", code, dto.userId());
         } catch (DataAccessException | NotFoundException ex) {
+            if (ex instanceof DataAccessException dataAccessException && CouponIssueWriter.isAlreadyIssued(dataAccessException)) {
+                // 원본 컨슈머가 이미 반영한 발급: 재고/발급 기록은 그대로 둠
+                log.info("[DLT] 이미 발급된 요청, 건너뜀: couponCode={}, userId={}", code, dto.userId());
+                return;
+            }
             log.error("[DLT] 재처리 중 예외 발생", ex);
             recordFailure(message, 1);
-            // 롤백된 DB 재고 → 다시 복구
-            couponStockRepository.increment(code);
+            // DB 에 반영되지 않은 발급 예약 → Redis 재고/발급 기록 복구
+            couponStockRepository.release(code, dto.userId());
         } finally {
             ack.acknowledge();
         }
@@ -1,85 +1,116 @@
 package com.example.ElasticCommerce.domain.coupon.service.kafka;
 
 import com.example.ElasticCommerce.domain.coupon.dto.CouponKafkaDTO;
-import com.example.ElasticCommerce.domain.coupon.entity.Coupon;
-import com.example.ElasticCommerce.domain.coupon.entity.UserCoupon;
-import com.example.ElasticCommerce.domain.coupon.exception.CouponExceptionType;
-import com.example.ElasticCommerce.domain.coupon.repository.CouponRepository;
-import com.example.ElasticCommerce.domain.coupon.repository.UserCouponRepository;
 import com.example.ElasticCommerce.domain.coupon.repository.CouponStockRepository;
-import com.example.ElasticCommerce.domain.user.entity.User;
-import com.example.ElasticCommerce.domain.user.exception.UserExceptionType;
-import com.example.ElasticCommerce.domain.user.repository.UserRepository;
-import com.example.ElasticCommerce.global.exception.type.NotFoundException;
+import com.example.ElasticCommerce.domain.coupon.service.CouponIssueWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.dao.DataAccessException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class CouponKafkaConsumerService {
 
-    private final CouponRepository couponRepository;
-    private final UserCouponRepository userCouponRepository;
-    private final UserRepository userRepository;
+    private final CouponIssueWriter couponIssueWriter;
     private final CouponStockRepository couponStockRepository;
     private final ObjectMapper objectMapper;
 
     @KafkaListener(
             topics = "coupon-topic",
             groupId = "coupon-group",
-            containerFactory = "kafkaListenerContainerFactory",
-            concurrency = "6"
+            containerFactory = "batchKafkaListenerContainerFactory",
+            concurrency = "${coupon.issue.concurrency}",
+            properties = {
+                    "max.poll.records=${coupon.issue.batch-size}",
+                    "fetch.max.wait.ms=${coupon.issue.flush-interval-ms}"
+            }
     )
-    @Transactional
-    public void consumeCoupon(String message, Acknowledgment ack) {
-        log.info("[CONSUMER] 메시지 수신: {}", message);
+    public void consumeCoupons(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        long startedAt = System.currentTimeMillis();
+
+        // 쿠폰 코드별로 묶고, 같은 묶음 안의 같은 사용자 요청은 한 번만 반영
+        Map<String, Map<Long, CouponKafkaDTO>> requestsByCode = new LinkedHashMap<>();
+        // 묶음별 첫 레코드 위치: 묶음은 첫 레코드 순서로 처리되므로, 실패한 묶음의 첫 레코드 앞은 모두 반영된 상태
+        Map<String, Integer> firstIndexByCode = new HashMap<>();
+        for (int index = 0; index < records.size(); index++) {
+            ConsumerRecord<String, String> record = records.get(index);
+            CouponKafkaDTO dto;
+            try {
+                dto = objectMapper.readValue(record.value(), CouponKafkaDTO.class);
+            } catch (JsonProcessingException e) {
+                log.error("[CONSUMER] JSON 파싱 실패, 메시지 버림: offset={}", record.offset(), e);
+                continue;
+            }
+            firstIndexByCode.putIfAbsent(dto.couponCode(), index);
+            CouponKafkaDTO previous = requestsByCode.computeIfAbsent(dto.couponCode(), code -> new LinkedHashMap<>())
+                                                    .putIfAbsent(dto.userId(), dto);
+            if (previous != null) {
+                log.warn("[CONSUMER] 같은 배치 내 중복 발급 메시지 무시: userId={}, code={}", dto.userId(), dto.couponCode());
+            }
+        }
+
+        int issued = 0;
+        for (Map.Entry<String, Map<Long, CouponKafkaDTO>> entry : requestsByCode.entrySet()) {
+            try {
+                issued += issueGroup(entry.getKey(), new ArrayList<>(entry.getValue().values()));
+            } catch (RuntimeException ex) {
+                // DB 연결 불가, Redis 복구 실패 등: 이 묶음의 첫 레코드부터만 재시도/DLT 로 보내고 앞선 레코드는 커밋
+                // (그 뒤 위치의 이미 반영된 레코드가 다시 들어와도 유니크 키로 발급 완료 처리됨)
+                int failedIndex = firstIndexByCode.get(entry.getKey());
+                log.error("[CONSUMER] 묶음 처리 실패: code={}, 재시도 시작 위치={}", entry.getKey(), failedIndex, ex);
+                throw new BatchListenerFailedException("쿠폰 발급 묶음 처리 실패: code=" + entry.getKey(), ex, failedIndex);
+            }
+        }
+
+        ack.acknowledge();
+        log.info("[CONSUMER] 배치 처리 완료: 수신={}건, 쿠폰={}종, 발급={}건, 소요={}ms",
+                records.size(), requestsByCode.size(), issued, System.currentTimeMillis() - startedAt);
+    }
 
-        // DTO 파싱
-        CouponKafkaDTO dto;
+    private int issueGroup(String code, List<CouponKafkaDTO> requests) {
         try {
-            dto = objectMapper.readValue(message, CouponKafkaDTO.class);
-        } catch (JsonProcessingException e) {
-            log.error("[CONSUMER] JSON 파싱 실패, 메시지 버림", e);
-            ack.acknowledge();
-            return;
+            couponIssueWriter.issueAll(requests);
+            return requests.size();
+        } catch (DataAccessException ex) {
+            log.warn("[CONSUMER] 묶음 저장 실패, 건별 처리로 전환: code={}, 요청={}건", code, requests.size(), ex);
         }
 
-        String code = dto.couponCode();
-        int updated = couponRepository.decrementQuantity(code);
-        if (updated != 1) {
-            log.warn("[CONSUMER] 재고 부족 또는 잘못된 코드: {}", code);
-            couponStockRepository.increment(code);
-            ack.acknowledge();
-            return;
+        int issued = 0;
+        for (CouponKafkaDTO request : requests) {
+            if (issueOne(request)) {
+                issued++;
+            }
         }
+        return issued;
+    }
 
+    private boolean issueOne(CouponKafkaDTO dto) {
         try {
-            // 발급 기록 저장
-            User user = userRepository.findById(dto.userId())
-                                      .orElseThrow(() -> new NotFoundException(UserExceptionType.NOT_FOUND_USER));
-            Coupon coupon = couponRepository.findByCouponCode(code)
-                                            .orElseThrow(() -> new NotFoundException(CouponExceptionType.COUPON_NOT_FOUND));
-            userCouponRepository.save(
-                    UserCoupon.builder()
-                              .user(user)
-                              .coupon(coupon)
-                              .build()
-            );
-            log.info("[CONSUMER] 쿠폰 발급 완료: userId={}, code={}", dto.userId(), code);
-        } catch (DataAccessException | NotFoundException ex) {
-            log.error("[CONSUMER] 저장 실패, Redis 복구: {}", code, ex);
-            // 롤백된 DB 재고→ 다시 복구
-            couponStockRepository.increment(code);
-        } finally {
-            ack.acknowledge();
+            couponIssueWriter.issueOne(dto);
+            return true;
+        } catch (DataAccessException ex) {
+            if (CouponIssueWriter.isAlreadyIssued(ex)) {
+                log.info("[CONSUMER] 이미 발급된 요청 재처리, 건너뜀: userId={}, code={}", dto.userId(), dto.couponCode());
+                return true;
+            }
+            log.error("[CONSUMER] 저장 실패, Redis 복구: userId={}, code={}", dto.userId(), dto.couponCode(), ex);
+            // DB 에 반영되지 않은 발급 예약 → Redis 재고/발급 기록 복구
+            couponStockRepository.release(dto.couponCode(), dto.userId());
+            return false;
         }
     }
 }
@@ -26,7 +26,8 @@ public class CouponKafkaProducerService {
             return;
         }
 
-        kafkaTemplate.send(topic, msg)
+        // 쿠폰 코드를 키로 사용해 같은 쿠폰의 발급 요청은 한 파티션에서 순서대로 처리
+        kafkaTemplate.send(topic, dto.couponCode(), msg)
                      .whenComplete((result, ex) -> {
                          if (ex != null) {
                              log.error("Kafka 전송 실패", ex);
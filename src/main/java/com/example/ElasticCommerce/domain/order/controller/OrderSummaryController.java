@@ -0,0 +1,29 @@
+package com.example.ElasticCommerce.domain.order.controller;
+
+import com.example.ElasticCommerce.domain.order.dto.response.OrderSummaryRebuildStatus;
+import com.example.ElasticCommerce.domain.order.service.OrderSummaryRebuilder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/orders/summaries")
+@RequiredArgsConstructor
+public class OrderSummaryController {
+
+    private final OrderSummaryRebuilder orderSummaryRebuilder;
+
+    // MySQL 주문 데이터로 주문 내역 조회 모델을 다시 만듦 (백그라운드 실행, 진행 상황은 GET 으로 조회)
+    @PostMapping("/rebuild")
+    public ResponseEntity<OrderSummaryRebuildStatus> rebuild() {
+        return ResponseEntity.accepted().body(orderSummaryRebuilder.start());
+    }
+
+    @GetMapping("/rebuild")
+    public ResponseEntity<OrderSummaryRebuildStatus> rebuildStatus() {
+        return ResponseEntity.ok(orderSummaryRebuilder.status());
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.ElasticCommerce.domain.order.dto.event;
+
+/**
+ * 주문 또는 결제 상태가 바뀌었음을 알리는 애플리케이션 이벤트.
+ * 쓰기 트랜잭션 안에서 발행되며, 커밋 직전에 주문 조회 모델(order_summaries)에 반영됩니다.
+ * newOrder 는 이 트랜잭션에서 주문을 새로 만들었는지 여부입니다. (조회 모델을 잠금 읽기 없이 바로 INSERT)
+ */
+public record OrderChangedEvent(
+        Long orderId,
+        boolean newOrder
+) {
+    public static OrderChangedEvent created(Long orderId) {
+        return new OrderChangedEvent(orderId, true);
+    }
+
+    public static OrderChangedEvent changed(Long orderId) {
+        return new OrderChangedEvent(orderId, false);
+    }
+}
@@ -4,11 +4,17 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import com.example.ElasticCommerce.domain.order.entity.Address;
 import com.example.ElasticCommerce.domain.order.entity.OrderItem;
+import com.example.ElasticCommerce.domain.product.entity.Product;
 import com.example.ElasticCommerce.domain.product.repository.ProductRepository;
+import com.example.ElasticCommerce.global.exception.type.BadRequestException;
 import com.example.ElasticCommerce.global.exception.type.NotFoundException;
 import com.example.ElasticCommerce.domain.order.exception.OrderExceptionType;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public record CreateOrderRequest(
@@ -21,14 +27,26 @@ public record CreateOrderRequest(
         AddressRequest address
 ) {
     public List<OrderItem> toEntities(ProductRepository productRepo) {
+        // 주문 상품을 IN 쿼리 한 번으로 조회
+        Map<Long, Product> products = productRepo.findAllById(productIds()).stream()
+                                                 .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 명백한 재고 부족은 UPDATE 전에 메모리에서 걸러냄 (최종 판단은 OrderStockReservation 의 조건부 UPDATE)
+        Map<Long, Integer> quantities = new HashMap<>();
+        items.forEach(req -> quantities.merge(req.productId(), req.quantity(), Integer::sum));
+        quantities.forEach((productId, quantity) -> {
+            Product prod = products.get(productId);
+            if (prod == null) {
+                throw new NotFoundException(OrderExceptionType.PRODUCT_NOT_FOUND);
+            }
+            if (prod.getStockQuantity() < quantity) {
+                throw new BadRequestException(OrderExceptionType.OUT_OF_STOCK);
+            }
+        });
+
         return items.stream()
                     .map(req -> {
-                        var prod = productRepo.findById(req.productId())
-                                              .orElseThrow(() -> new NotFoundException(OrderExceptionType.PRODUCT_NOT_FOUND));
-                        if (prod.getStockQuantity() < req.quantity()) {
-                            throw new IllegalStateException("재고 부족: productId=" + req.productId());
-                        }
-                        prod.updateStockQuantity(prod.getStockQuantity() - req.quantity());
+                        Product prod = products.get(req.productId());
                         return OrderItem.builder()
                                         .product(prod)
                                         .quantity(req.quantity())
@@ -38,6 +56,12 @@ public record CreateOrderRequest(
                     .collect(Collectors.toList());
     }
 
+    private Set<Long> productIds() {
+        return items.stream()
+                    .map(OrderItemRequest::productId)
+                    .collect(Collectors.toSet());
+    }
+
     public Address toAddressEntity() {
         return Address.builder()
                       .order(null) // service 에서 setOrder 이후 overwrite
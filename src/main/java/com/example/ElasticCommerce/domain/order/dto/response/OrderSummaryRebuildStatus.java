@@ -0,0 +1,52 @@
+package com.example.ElasticCommerce.domain.order.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 조회 모델 재생성 작업의 진행 상황.
+ *
+ * @param state       작업 상태
+ * @param scanned     확인한 주문 수
+ * @param rebuilt     조회 모델을 새로 만들거나 갱신한 주문 수
+ * @param lastOrderId 마지막으로 처리한 주문 id (키셋 위치)
+ * @param startedAt   시작 시각
+ * @param finishedAt  종료 시각, 진행 중이면 null
+ * @param error       실패 사유, 실패가 아니면 null
+ */
+public record OrderSummaryRebuildStatus(
+        State state,
+        long scanned,
+        long rebuilt,
+        Long lastOrderId,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+    public enum State {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+
+    public static OrderSummaryRebuildStatus idle() {
+        return new OrderSummaryRebuildStatus(State.IDLE, 0, 0, null, null, null, null);
+    }
+
+    public static OrderSummaryRebuildStatus started(LocalDateTime startedAt) {
+        return new OrderSummaryRebuildStatus(State.RUNNING, 0, 0, null, startedAt, null, null);
+    }
+
+    public OrderSummaryRebuildStatus progressed(long scanned, long rebuilt, Long lastOrderId) {
+        return new OrderSummaryRebuildStatus(state, scanned, rebuilt, lastOrderId, startedAt, null, null);
+    }
+
+    public OrderSummaryRebuildStatus completed(LocalDateTime finishedAt) {
+        return new OrderSummaryRebuildStatus(State.COMPLETED, scanned, rebuilt, lastOrderId, startedAt, finishedAt, null);
+    }
+
+    public OrderSummaryRebuildStatus failed(LocalDateTime finishedAt, String error) {
+        return new OrderSummaryRebuildStatus(State.FAILED, scanned, rebuilt, lastOrderId, startedAt, finishedAt, error);
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+}
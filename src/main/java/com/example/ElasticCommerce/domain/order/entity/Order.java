@@ -16,12 +16,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        // 미결제 주문 만료: CREATED 상태에서 createdAt 이 기준 시각 이전인 주문만 인덱스 범위로 읽음
+        indexes = @Index(name = "idx_orders_status_created", columnList = "status, createdAt")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Order extends BaseEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 주문/주문 상품/배송지를 JDBC 배치 INSERT 로 저장할 수 있도록 IDENTITY 대신 시퀀스에서 50개씩 미리 할당받음
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -37,6 +44,10 @@ public class Order extends BaseEntity {
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
+    // 결제/취소/예약 만료가 동시에 상태를 바꿔 재고를 두 번 되돌리지 않도록 낙관적 락 사용
+    @Version
+    private long version;
+
     @Builder
     public Order(User user, List<OrderItem> items, Address address) {
         this.user = user;
@@ -0,0 +1,107 @@
+package com.example.ElasticCommerce.domain.order.entity;
+
+import com.example.ElasticCommerce.domain.order.dto.response.AddressDto;
+import com.example.ElasticCommerce.domain.order.dto.response.OrderDto;
+import com.example.ElasticCommerce.domain.order.dto.response.OrderItemDto;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 내역 조회 모델. 주문/주문 상품/상품명/배송지를 한 행에 비정규화해
+ * 주문 내역 한 페이지를 (userId, orderId) 인덱스 한 번으로 읽습니다.
+ * 쓰기 모델(Order)이 바뀔 때 {@code OrderSummaryProjector} 가 같은 트랜잭션에서 갱신합니다.
+ */
+@Entity
+@Table(
+        name = "order_summaries",
+        indexes = @Index(name = "idx_order_summaries_user_order", columnList = "userId, orderId")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderSummary {
+
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private long totalAmount;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private List<OrderItemDto> items;
+
+    @Column(nullable = false)
+    private String recipientName;
+
+    @Column(nullable = false)
+    private String street;
+
+    @Column(nullable = false, length = 100)
+    private String city;
+
+    @Column(nullable = false, length = 20)
+    private String postalCode;
+
+    @Column(nullable = false, length = 20)
+    private String phoneNumber;
+
+    private LocalDateTime orderedAt;
+
+    // 반영한 Order.version: 재생성(rebuild)이 더 최신 상태를 덮어쓰지 않도록 비교
+    @Column(nullable = false)
+    private long orderVersion;
+
+    @Version
+    private Long summaryVersion;
+
+    public static OrderSummary from(Order order) {
+        OrderSummary summary = new OrderSummary();
+        summary.orderId = order.getId();
+        summary.userId = order.getUser().getUserId();
+        summary.refresh(order);
+        return summary;
+    }
+
+    public void refresh(Order order) {
+        OrderDto dto = order.toDto();
+        this.status = dto.status();
+        this.totalAmount = dto.totalAmount();
+        this.items = dto.items();
+        this.recipientName = dto.address().recipientName();
+        this.street = dto.address().street();
+        this.city = dto.address().city();
+        this.postalCode = dto.address().postalCode();
+        this.phoneNumber = dto.address().phoneNumber();
+        this.orderedAt = dto.createdAt();
+        this.orderVersion = order.getVersion();
+    }
+
+    public boolean isOlderThan(Order order) {
+        return this.orderVersion <= order.getVersion();
+    }
+
+    public OrderDto toDto() {
+        return new OrderDto(
+                orderId,
+                userId,
+                items,
+                status,
+                totalAmount,
+                new AddressDto(recipientName, street, city, postalCode, phoneNumber),
+                orderedAt
+        );
+    }
+}
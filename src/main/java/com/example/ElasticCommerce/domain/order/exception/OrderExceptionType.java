@@ -12,7 +12,9 @@ public enum OrderExceptionType implements ExceptionType {
     PRODUCT_NOT_FOUND        (3002, "해당 상품을 찾을 수 없습니다."),
     ORDER_CANNOT_CANCEL      (3003, "주문을 취소할 수 없는 상태입니다."),
     ORDER_CREATION_FAILED    (3004, "주문 생성에 실패했습니다."),
-    ORDER_CANCEL_FAILED      (3005, "주문 취소에 실패했습니다.");
+    ORDER_CANCEL_FAILED      (3005, "주문 취소에 실패했습니다."),
+    OUT_OF_STOCK             (3006, "상품 재고가 부족합니다."),
+    SUMMARY_REBUILD_RUNNING  (3007, "주문 내역 재생성이 이미 진행 중입니다.");
 
     private final int statusCode;
     private final String message;
@@ -1,12 +1,17 @@
 package com.example.ElasticCommerce.domain.order.repository;
 
 import com.example.ElasticCommerce.domain.order.entity.Order;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import com.example.ElasticCommerce.domain.order.entity.OrderStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository extends JpaRepository<Order, Long> {
@@ -22,14 +27,36 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             @Param("userId")   Long userId
     );
 
+    // 조회 모델 재생성용 키셋 순회
+    @Query("SELECT o.id FROM Order o WHERE o.id > :lastId ORDER BY o.id")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Limit limit);
+
+    // 주문 상품/상품/배송지를 한 번에 fetch join 으로 적재
     @Query("""
-        SELECT o
+        SELECT DISTINCT o
           FROM Order o
-         WHERE o.user.userId = :userId
+          JOIN FETCH o.address
+          LEFT JOIN FETCH o.items i
+          LEFT JOIN FETCH i.product
+         WHERE o.id IN :orderIds
     """)
-    Page<Order> findAllByUserUserId(
-            @Param("userId") Long userId,
-            Pageable pageable
-    );
+    List<Order> findAllWithDetailsByIdIn(@Param("orderIds") Collection<Long> orderIds);
 
+    // 조회 모델 재생성 배치가 끝날 때까지 같은 주문의 변경(과 그에 따른 조회 모델 반영)을 막음 (id 순으로 잠가 교착 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :orderIds ORDER BY o.id")
+    List<Order> lockAllByIdIn(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("""
+        SELECT o.id
+          FROM Order o
+         WHERE o.status = :status
+           AND o.createdAt < :createdBefore
+         ORDER BY o.id
+    """)
+    List<Long> findIdsByStatusAndCreatedAtBefore(
+            @Param("status")        OrderStatus status,
+            @Param("createdBefore") LocalDateTime createdBefore,
+            Limit limit
+    );
 }
@@ -0,0 +1,33 @@
+package com.example.ElasticCommerce.domain.order.repository;
+
+import com.example.ElasticCommerce.domain.order.entity.OrderSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface OrderSummaryRepository extends JpaRepository<OrderSummary, Long> {
+
+    // (userId, orderId) 인덱스만 타고 한 번에 읽는 주문 내역 페이지 (최신 주문 순)
+    @Query(value = """
+        SELECT s
+          FROM OrderSummary s
+         WHERE s.userId = :userId
+         ORDER BY s.orderId DESC
+    """, countQuery = """
+        SELECT COUNT(s)
+          FROM OrderSummary s
+         WHERE s.userId = :userId
+    """)
+    Page<OrderSummary> findPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 잠금 읽기는 트랜잭션 시작 시점 스냅샷이 아니라 최신 커밋을 보므로, 다른 트랜잭션이 막 만든 조회 모델도 찾음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OrderSummary s WHERE s.orderId = :orderId")
+    Optional<OrderSummary> findByIdForUpdate(@Param("orderId") Long orderId);
+}
@@ -0,0 +1,69 @@
+package com.example.ElasticCommerce.domain.order.service;
+
+import com.example.ElasticCommerce.domain.order.entity.OrderStatus;
+import com.example.ElasticCommerce.domain.order.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 생성 시 예약한 재고의 유효 시간(ttl) 관리.
+ * 생성 후 ttl 이 지나도록 결제되지 않은 주문(CREATED)을 주기적으로 취소해 재고를 되돌립니다.
+ * 주문마다 별도 트랜잭션으로 처리하므로 여러 노드가 동시에 실행해도 한 주문은 한 번만 만료됩니다.
+ */
+@Component
+@Slf4j
+public class OrderReservationExpirer {
+
+    private final OrderRepository orderRepository;
+    private final OrderService    orderService;
+    private final Clock           clock;
+    private final Duration        ttl;
+    private final int             batchSize;
+
+    public OrderReservationExpirer(
+            OrderRepository orderRepository,
+            OrderService orderService,
+            Clock clock,
+            @Value("${order.reservation.ttl-minutes}") long ttlMinutes,
+            @Value("${order.reservation.expire-batch-size}") int batchSize
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.clock = clock;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${order.reservation.expire-interval-ms}")
+    public void expireUnpaidOrders() {
+        LocalDateTime createdBefore = LocalDateTime.now(clock).minus(ttl);
+        List<Long> orderIds = orderRepository.findIdsByStatusAndCreatedAtBefore(
+                OrderStatus.CREATED, createdBefore, Limit.of(batchSize));
+
+        int expired = 0;
+        for (Long orderId : orderIds) {
+            try {
+                if (orderService.expireReservation(orderId, createdBefore)) {
+                    expired++;
+                }
+            } catch (OptimisticLockingFailureException e) {
+                // 같은 순간 결제/취소되었거나 다른 노드가 먼저 만료 처리한 주문
+                log.info("예약 만료 건너뜀(동시 변경): orderId={}", orderId);
+            } catch (RuntimeException e) {
+                log.error("예약 만료 실패: orderId={}", orderId, e);
+            }
+        }
+        if (expired > 0) {
+            log.info("미결제 주문 예약 만료 완료: 대상={}건, 만료={}건", orderIds.size(), expired);
+        }
+    }
+}
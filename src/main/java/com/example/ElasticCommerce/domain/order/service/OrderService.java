@@ -2,6 +2,7 @@ package com.example.ElasticCommerce.domain.order.service;
 
 import com.example.ElasticCommerce.domain.notification.dto.NotificationRequest;
 import com.example.ElasticCommerce.domain.notification.service.NotificationProducerService;
+import com.example.ElasticCommerce.domain.order.dto.event.OrderChangedEvent;
 import com.example.ElasticCommerce.domain.order.dto.request.CreateOrderRequest;
 import com.example.ElasticCommerce.domain.order.dto.request.UpdateOrderStatusRequest;
 import com.example.ElasticCommerce.domain.order.dto.response.OrderDto;
@@ -9,9 +10,10 @@ import com.example.ElasticCommerce.domain.order.entity.Address;
 import com.example.ElasticCommerce.domain.order.entity.Order;
 import com.example.ElasticCommerce.domain.order.entity.OrderItem;
 import com.example.ElasticCommerce.domain.order.entity.OrderStatus;
+import com.example.ElasticCommerce.domain.order.entity.OrderSummary;
 import com.example.ElasticCommerce.domain.order.exception.OrderExceptionType;
 import com.example.ElasticCommerce.domain.order.repository.OrderRepository;
-import com.example.ElasticCommerce.domain.product.entity.Product;
+import com.example.ElasticCommerce.domain.order.repository.OrderSummaryRepository;
 import com.example.ElasticCommerce.domain.product.repository.ProductRepository;
 import com.example.ElasticCommerce.domain.user.entity.User;
 import com.example.ElasticCommerce.domain.user.exception.UserExceptionType;
@@ -20,6 +22,7 @@ import com.example.ElasticCommerce.global.exception.type.BadRequestException;
 import com.example.ElasticCommerce.global.exception.type.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionSynchronizationAdapter;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -39,6 +43,9 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
     private final NotificationProducerService notificationService;
+    private final OrderStockReservation stockReservation;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional
@@ -51,6 +58,8 @@ public class OrderService {
                                   });
 
         List<OrderItem> items = req.toEntities(productRepository);
+        // 모든 상품 재고를 차감하거나(예약), 하나라도 부족하면 주문 전체를 롤백
+        stockReservation.reserve(items);
         Address address = req.toAddressEntity();
         Order order = Order.builder()
                            .user(user)
@@ -60,6 +69,7 @@ public class OrderService {
         address.setOrder(order);
 
         orderRepository.save(order);
+        eventPublisher.publishEvent(OrderChangedEvent.created(order.getId()));
         log.info("주문 생성 완료: orderId={}, userId={}", order.getId(), userId);
 
         long totalPrice = items.stream()
@@ -105,9 +115,10 @@ public class OrderService {
                           return new NotFoundException(UserExceptionType.NOT_FOUND_USER);
                       });
 
+        // 쓰기 엔티티 대신 비정규화된 조회 모델(order_summaries)에서 인덱스 한 번으로 읽음
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<OrderDto> result = orderRepository.findAllByUserUserId(userId, pageRequest)
-                                               .map(Order::toDto);
+        Page<OrderDto> result = orderSummaryRepository.findPageByUserId(userId, pageRequest)
+                                                      .map(OrderSummary::toDto);
         log.info("주문 목록 조회 완료: userId={}, 조회건수={}", userId, result.getNumberOfElements());
         return result;
     }
@@ -115,9 +126,14 @@ public class OrderService {
     @Transactional
     public OrderDto updateOrderStatus(Long userId, Long orderId, UpdateOrderStatusRequest req) {
         log.info("주문 상태 변경 시작: userId={}, orderId={}, newStatus={}", userId, orderId, req.newStatus());
-        Order order = findOrderOrThrow(userId, orderId);
         OrderStatus newStatus = OrderStatus.valueOf(req.newStatus());
+        if (newStatus == OrderStatus.CANCELLED) {
+            // 취소는 재고 반환과 취소 알림이 함께 일어나야 하므로 취소 흐름으로 보냄
+            return cancelOrder(userId, orderId);
+        }
+        Order order = findOrderOrThrow(userId, orderId);
         order.changeStatus(newStatus);
+        eventPublisher.publishEvent(OrderChangedEvent.changed(orderId));
         log.info("주문 상태 변경 완료: orderId={}, 상태={}", orderId, newStatus);
         return order.toDto();
     }
@@ -137,14 +153,10 @@ public class OrderService {
                                .mapToLong(item -> item.getQuantity() * item.getProduct().getPrice())
                                .sum();
 
-        order.getItems().forEach(item -> {
-            Product product = item.getProduct();
-            int restored = product.getStockQuantity() + item.getQuantity();
-            product.updateStockQuantity(restored);
-            log.info("재고 복원: productId={}, restoredQuantity={}", product.getId(), restored);
-        });
+        stockReservation.release(order.getItems());
 
         order.cancel();
+        eventPublisher.publishEvent(OrderChangedEvent.changed(orderId));
         log.info("주문 취소 완료: orderId={}", orderId);
 
         User user = order.getUser();
@@ -172,6 +184,25 @@ public class OrderService {
         return order.toDto();
     }
 
+    /**
+     * 결제되지 않은 채 예약 시간이 지난 주문을 취소하고 예약했던 재고를 되돌립니다.
+     * 그 사이 결제/취소된 주문은 건너뛰며, 동시에 상태가 바뀌면 낙관적 락 예외로 이 트랜잭션이 롤백됩니다.
+     *
+     * @return 만료 처리했으면 true
+     */
+    @Transactional
+    public boolean expireReservation(Long orderId, LocalDateTime createdBefore) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null || order.getStatus() != OrderStatus.CREATED || !order.getCreatedAt().isBefore(createdBefore)) {
+            return false;
+        }
+        stockReservation.release(order.getItems());
+        order.cancel();
+        eventPublisher.publishEvent(OrderChangedEvent.changed(orderId));
+        log.info("미결제 주문 예약 만료: orderId={}, createdAt={}", orderId, order.getCreatedAt());
+        return true;
+    }
+
     private Order findOrderOrThrow(Long userId, Long orderId) {
         return orderRepository.findByIdAndUserId(orderId, userId)
                               .orElseThrow(() -> {
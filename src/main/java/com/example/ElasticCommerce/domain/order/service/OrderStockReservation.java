@@ -0,0 +1,51 @@
+package com.example.ElasticCommerce.domain.order.service;
+
+import com.example.ElasticCommerce.domain.order.entity.OrderItem;
+import com.example.ElasticCommerce.domain.order.exception.OrderExceptionType;
+import com.example.ElasticCommerce.domain.product.repository.ProductRepository;
+import com.example.ElasticCommerce.global.exception.type.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 주문 상품 재고 예약/해제.
+ * 읽고-계산하고-쓰는 대신 조건부 UPDATE 한 문장으로 차감하므로 행 락은 UPDATE 부터 커밋까지만 잡히고,
+ * 상품 id 순으로 처리해 여러 상품을 담은 주문끼리 교착 상태가 생기지 않습니다.
+ * 하나라도 부족하면 예외로 주문 트랜잭션 전체가 롤백되어 앞서 차감한 상품도 함께 되돌아갑니다.
+ * 호출 측 트랜잭션 안에서 실행되어야 합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderStockReservation {
+
+    private final ProductRepository productRepository;
+
+    public void reserve(Collection<OrderItem> items) {
+        quantitiesByProduct(items).forEach((productId, quantity) -> {
+            if (productRepository.decreaseStock(productId, quantity) == 0) {
+                log.warn("재고 부족: productId={}, quantity={}", productId, quantity);
+                throw new BadRequestException(OrderExceptionType.OUT_OF_STOCK);
+            }
+        });
+    }
+
+    public void release(Collection<OrderItem> items) {
+        quantitiesByProduct(items).forEach((productId, quantity) -> {
+            productRepository.increaseStock(productId, quantity);
+            log.info("재고 복원: productId={}, quantity={}", productId, quantity);
+        });
+    }
+
+    // 같은 상품이 여러 줄로 담겨도 한 번에 차감하고, 락 획득 순서를 고정하기 위해 id 순으로 정렬
+    private Map<Long, Integer> quantitiesByProduct(Collection<OrderItem> items) {
+        Map<Long, Integer> quantities = new TreeMap<>();
+        items.forEach(item -> quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum));
+        return quantities;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.ElasticCommerce.domain.order.service;
+
+import com.example.ElasticCommerce.domain.order.dto.event.OrderChangedEvent;
+import com.example.ElasticCommerce.domain.order.entity.Order;
+import com.example.ElasticCommerce.domain.order.entity.OrderSummary;
+import com.example.ElasticCommerce.domain.order.repository.OrderRepository;
+import com.example.ElasticCommerce.domain.order.repository.OrderSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 쓰기 모델(Order)의 변경을 조회 모델(OrderSummary)에 반영합니다.
+ * 커밋 직전에 같은 트랜잭션에서 갱신하므로 주문과 조회 모델이 어긋난 채로 커밋되지 않습니다.
+ * 조회 모델은 항상 주문 행 잠금을 잡은 뒤 반영하므로, 실시간 반영과 재생성이 같은 주문의
+ * 조회 모델을 동시에 INSERT 해 키 중복으로 주문 트랜잭션이 실패하는 일이 없습니다.
+ * 없는 행을 잠금 읽기하면 MySQL 이 간격 잠금을 잡아 동시 INSERT 끼리 교착되므로, 새 조회 모델은 잠금 읽기 없이 INSERT 합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderSummaryProjector {
+
+    private final OrderRepository        orderRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onOrderChanged(OrderChangedEvent event) {
+        // 변경 중인 주문은 이미 영속성 컨텍스트에 있으므로 추가 조회 없이 가져옴
+        Order order = orderRepository.findById(event.orderId()).orElse(null);
+        if (order == null) {
+            log.warn("주문 조회 모델 갱신 건너뜀: 주문 없음 orderId={}", event.orderId());
+            return;
+        }
+        // flush 로 Order.version 을 이번 변경 이후 값으로 맞추고 주문 행 잠금을 잡은 뒤 반영
+        orderRepository.flush();
+        if (event.newOrder()) {
+            // 커밋 전 주문은 다른 트랜잭션(재생성 포함)에 보이지 않으므로 조회 모델도 아직 없음
+            orderSummaryRepository.save(OrderSummary.from(order));
+            return;
+        }
+        // 기존 주문: 트랜잭션 시작 뒤 재생성이 커밋한 조회 모델도 보도록 잠금 읽기 (보통 있는 행이라 행 잠금만 잡음)
+        orderSummaryRepository.findByIdForUpdate(order.getId())
+                              .ifPresentOrElse(
+                                      summary -> summary.refresh(order),
+                                      () -> orderSummaryRepository.save(OrderSummary.from(order))
+                              );
+    }
+
+    /**
+     * MySQL 의 주문을 다시 읽어 조회 모델을 재생성합니다. (한 배치 = 한 트랜잭션)
+     * 배치의 주문 행을 먼저 잠그므로 그동안 같은 주문의 실시간 반영은 이 배치가 커밋될 때까지 기다립니다.
+     * 조회 모델은 잠금 없이 읽습니다. 일관된 읽기의 스냅샷은 첫 일반 SELECT 에서 만들어지므로 주문 행 잠금을 얻은 뒤의
+     * 스냅샷이 되고, 그 전에 커밋된 실시간 반영은 모두 보입니다. (범위 잠금 읽기는 간격 잠금으로 주문 생성을 막음)
+     * 이미 더 최신 버전이 반영된 조회 모델은 건너뜁니다.
+     *
+     * @return 반영한 주문 수
+     */
+    @Transactional
+    public int rebuild(List<Long> orderIds) {
+        orderRepository.lockAllByIdIn(orderIds);
+        Map<Long, OrderSummary> summaries = orderSummaryRepository.findAllById(orderIds).stream()
+                                                                  .collect(Collectors.toMap(OrderSummary::getOrderId, Function.identity()));
+        int rebuilt = 0;
+        for (Order order : orderRepository.findAllWithDetailsByIdIn(orderIds)) {
+            OrderSummary summary = summaries.get(order.getId());
+            if (summary == null) {
+                orderSummaryRepository.save(OrderSummary.from(order));
+                rebuilt++;
+            } else if (summary.isOlderThan(order)) {
+                summary.refresh(order);
+                rebuilt++;
+            }
+        }
+        return rebuilt;
+    }
+}
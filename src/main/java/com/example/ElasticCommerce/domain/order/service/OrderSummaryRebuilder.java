@@ -0,0 +1,105 @@
+package com.example.ElasticCommerce.domain.order.service;
+
+import com.example.ElasticCommerce.domain.order.dto.response.OrderSummaryRebuildStatus;
+import com.example.ElasticCommerce.domain.order.exception.OrderExceptionType;
+import com.example.ElasticCommerce.domain.order.repository.OrderRepository;
+import com.example.ElasticCommerce.global.exception.type.BadRequestException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주문 조회 모델 재생성: orders 를 id 순으로 끝까지 읽으며 배치 단위로 order_summaries 에 반영합니다.
+ * 요청 스레드를 붙잡지 않도록 전용 스레드 하나에서 실행하고(동시에 하나만), 진행 상황은 {@link #status()} 로 조회합니다.
+ * 운영 중 실행해도 되며, 같은 주문이 동시에 변경되어 충돌한 배치는 한 번 다시 시도합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OrderSummaryRebuilder {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final OrderRepository       orderRepository;
+    private final OrderSummaryProjector orderSummaryProjector;
+    private final Clock                 clock;
+
+    private final ExecutorService                            executor =
+            Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "order-summary-rebuild"));
+    private final AtomicReference<OrderSummaryRebuildStatus> status   =
+            new AtomicReference<>(OrderSummaryRebuildStatus.idle());
+
+    /**
+     * 재생성을 백그라운드로 시작합니다.
+     *
+     * @return 시작 시점의 진행 상황
+     * @throws BadRequestException 이미 진행 중인 경우
+     */
+    public OrderSummaryRebuildStatus start() {
+        OrderSummaryRebuildStatus current = status.get();
+        OrderSummaryRebuildStatus started = OrderSummaryRebuildStatus.started(LocalDateTime.now(clock));
+        if (current.isRunning() || !status.compareAndSet(current, started)) {
+            throw new BadRequestException(OrderExceptionType.SUMMARY_REBUILD_RUNNING);
+        }
+        executor.execute(this::rebuildAll);
+        return started;
+    }
+
+    public OrderSummaryRebuildStatus status() {
+        return status.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        long scanned = 0;
+        long rebuilt = 0;
+        long lastId = 0L;
+
+        try {
+            List<Long> orderIds;
+            do {
+                orderIds = orderRepository.findIdsAfter(lastId, Limit.of(BATCH_SIZE));
+                if (orderIds.isEmpty()) {
+                    break;
+                }
+                rebuilt += rebuildBatch(orderIds);
+                scanned += orderIds.size();
+                lastId = orderIds.get(orderIds.size() - 1);
+                status.set(status.get().progressed(scanned, rebuilt, lastId));
+                log.info("주문 조회 모델 재생성 진행: 확인={}건, 반영={}건, lastId={}", scanned, rebuilt, lastId);
+            } while (orderIds.size() == BATCH_SIZE && !Thread.currentThread().isInterrupted());
+
+            status.set(status.get().completed(LocalDateTime.now(clock)));
+            log.info("주문 조회 모델 재생성 완료: 확인={}건, 반영={}건, 소요={}ms",
+                    scanned, rebuilt, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            // 이미 반영한 배치는 커밋됐으므로 다시 실행하면 이어서 최신화됨
+            status.set(status.get().failed(LocalDateTime.now(clock), e.getMessage()));
+            log.error("주문 조회 모델 재생성 실패: 확인={}건, 반영={}건, lastId={}", scanned, rebuilt, lastId, e);
+        }
+    }
+
+    private int rebuildBatch(List<Long> orderIds) {
+        try {
+            return orderSummaryProjector.rebuild(orderIds);
+        } catch (OptimisticLockingFailureException e) {
+            log.info("주문 조회 모델 재생성 충돌, 배치 재시도: {} ~ {}", orderIds.get(0), orderIds.get(orderIds.size() - 1));
+            return orderSummaryProjector.rebuild(orderIds);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.ElasticCommerce.domain.payment.dto.response;
 
 import com.example.ElasticCommerce.domain.payment.entity.Payment;
+import com.example.ElasticCommerce.domain.payment.entity.PaymentStatus;
 import java.time.LocalDateTime;
 
 public record PaymentDto(
@@ -11,6 +12,11 @@ public record PaymentDto(
         String status,
         LocalDateTime createdAt
 ) {
+    // JPQL 생성자 표현식(DTO 프로젝션)용
+    public PaymentDto(Long paymentId, Long orderId, String method, long amount, PaymentStatus status, LocalDateTime createdAt) {
+        this(paymentId, orderId, method, amount, status.name(), createdAt);
+    }
+
     public static PaymentDto from(Payment p) {
         return new PaymentDto(
                 p.getId(),
@@ -1,5 +1,6 @@
 package com.example.ElasticCommerce.domain.payment.repository;
 
+import com.example.ElasticCommerce.domain.payment.dto.response.PaymentDto;
 import com.example.ElasticCommerce.domain.payment.entity.Payment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,11 +14,28 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Optional<Payment> findByOrderId(Long orderId);
 
-    @Query("""
-        SELECT p
+    // 결제 목록은 DTO 프로젝션으로 한 번에 조회 (엔티티를 읽으면 주문마다 배송지 OneToOne 조회가 추가로 발생)
+    @Query(value = """
+        SELECT new com.example.ElasticCommerce.domain.payment.dto.response.PaymentDto(
+                   p.id, o.id, p.method, p.amount, p.status, p.createdAt)
+          FROM Payment p
+          JOIN p.order o
+         WHERE o.user.userId = :userId
+    """, countQuery = """
+        SELECT COUNT(p)
           FROM Payment p
          WHERE p.order.user.userId = :userId
     """)
-    Page<Payment> findAllByUserId(@Param("userId") Long userId, Pageable pageable);
+    Page<PaymentDto> findDtosByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query(value = """
+        SELECT new com.example.ElasticCommerce.domain.payment.dto.response.PaymentDto(
+                   p.id, p.order.id, p.method, p.amount, p.status, p.createdAt)
+          FROM Payment p
+    """, countQuery = """
+        SELECT COUNT(p)
+          FROM Payment p
+    """)
+    Page<PaymentDto> findAllDtos(Pageable pageable);
 
 }
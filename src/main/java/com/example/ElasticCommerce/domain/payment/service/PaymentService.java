@@ -2,6 +2,7 @@ package com.example.ElasticCommerce.domain.payment.service;
 
 import com.example.ElasticCommerce.domain.notification.dto.NotificationRequest;
 import com.example.ElasticCommerce.domain.notification.service.NotificationProducerService;
+import com.example.ElasticCommerce.domain.order.dto.event.OrderChangedEvent;
 import com.example.ElasticCommerce.domain.order.entity.OrderStatus;
 import com.example.ElasticCommerce.domain.payment.dto.request.PaymentRequest;
 import com.example.ElasticCommerce.domain.payment.dto.response.PaymentDto;
@@ -18,6 +19,7 @@ import com.example.ElasticCommerce.global.exception.type.BadRequestException;
 import com.example.ElasticCommerce.global.exception.type.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,7 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
     private final NotificationProducerService notificationProducerService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public PaymentDto createPayment(Long userId, Long orderId, PaymentRequest req) {
@@ -62,6 +65,7 @@ public class PaymentService {
         order.changeStatus(OrderStatus.PAID);
 
         paymentRepository.save(payment);
+        eventPublisher.publishEvent(OrderChangedEvent.changed(order.getId()));
         log.info("결제 완료: paymentId={}", payment.getId());
 
         User user = order.getUser();
@@ -108,10 +112,10 @@ public class PaymentService {
                       .orElseThrow(() -> new NotFoundException(UserExceptionType.NOT_FOUND_USER));
 
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Payment> payments = paymentRepository.findAllByUserId(userId, pageRequest);
+        Page<PaymentDto> payments = paymentRepository.findDtosByUserId(userId, pageRequest);
 
         log.info("결제 내역 조회 완료: userId={}, 건수={}", userId, payments.getNumberOfElements());
-        return payments.map(PaymentDto::from);
+        return payments;
     }
 
 
@@ -119,8 +123,8 @@ public class PaymentService {
     public Page<PaymentDto> listAllPayments(int page, int size) {
         log.info("전체 결제 내역 조회 시작: page={}, size={}", page, size);
         PageRequest pageRequest = PageRequest.of(page, size);
-        Page<Payment> payments = paymentRepository.findAll(pageRequest);
+        Page<PaymentDto> payments = paymentRepository.findAllDtos(pageRequest);
         log.info("전체 결제 내역 조회 완료: 건수={}", payments.getNumberOfElements());
-        return payments.map(PaymentDto::from);
+        return payments;
     }
 }
@@ -4,7 +4,10 @@ import com.example.ElasticCommerce.domain.product.dto.request.CreateProductReque
 import com.example.ElasticCommerce.domain.product.dto.request.StockUpdateRequestDTO;
 import com.example.ElasticCommerce.domain.product.dto.request.UpdateProductRequestDTO;
 import com.example.ElasticCommerce.domain.product.dto.response.ProductResponse;
+import com.example.ElasticCommerce.domain.product.dto.response.ProductSearchFacetResponse;
+import com.example.ElasticCommerce.domain.product.dto.response.SearchCacheStatsResponse;
 import com.example.ElasticCommerce.domain.product.service.ProductService;
+import com.example.ElasticCommerce.global.common.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +29,14 @@ public class ProductController {
         return ResponseEntity.ok(productService.getProducts(page, size));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<ProductResponse>> scrollProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(productService.scrollProducts(cursor, size));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<List<ProductResponse>> searchProducts(
             @RequestParam String query,
@@ -39,6 +50,37 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/search/facets")
+    public ResponseEntity<ProductSearchFacetResponse> searchProductsWithFacets(
+            @RequestParam String query,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") double minPrice,
+            @RequestParam(defaultValue = "1000000000") double maxPrice,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        ProductSearchFacetResponse response = productService.searchProductsWithFacets(query, category, minPrice, maxPrice, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/search/scroll")
+    public ResponseEntity<CursorPage<ProductResponse>> scrollSearchProducts(
+            @RequestParam String query,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "0") double minPrice,
+            @RequestParam(defaultValue = "1000000000") double maxPrice,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<ProductResponse> products = productService.scrollSearchProducts(query, category, minPrice, maxPrice, cursor, size);
+        return ResponseEntity.ok(products);
+    }
+
+    @GetMapping("/search/cache/stats")
+    public ResponseEntity<SearchCacheStatsResponse> getSearchCacheStats() {
+        return ResponseEntity.ok(productService.getSearchCacheStats());
+    }
+
     @GetMapping("/suggestions")
     public ResponseEntity<List<String>> getSuggestions(@RequestParam String query) {
         List<String> suggestions = productService.getSuggestions(query);
@@ -0,0 +1,27 @@
+package com.example.ElasticCommerce.domain.product.dto.event;
+
+import com.example.ElasticCommerce.domain.product.dto.kafka.ProductElasticDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Elasticsearch 색인이 끝난 상품 변경 요약 (노드 로컬 캐시 무효화용).
+ * 부분 이벤트는 name / category 가 null 입니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ProductIndexChange(
+        String id,
+        String eventType,
+        String name,
+        String category,
+        Double rating
+) {
+    public static ProductIndexChange from(ProductElasticDTO dto) {
+        return new ProductIndexChange(dto.id(), dto.eventType(), dto.name(), dto.category(), dto.rating());
+    }
+
+    @JsonIgnore
+    public boolean isDelete() {
+        return "DELETE".equals(eventType);
+    }
+}
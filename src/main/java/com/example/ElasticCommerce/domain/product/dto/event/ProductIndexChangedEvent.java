@@ -0,0 +1,12 @@
+package com.example.ElasticCommerce.domain.product.dto.event;
+
+import java.util.List;
+
+/**
+ * 색인 배치 하나에서 반영된 상품 변경 목록.
+ * Redis pub/sub 으로 모든 노드에 전파된 뒤 각 노드에서 애플리케이션 이벤트로 발행됩니다.
+ */
+public record ProductIndexChangedEvent(
+        List<ProductIndexChange> changes
+) {
+}
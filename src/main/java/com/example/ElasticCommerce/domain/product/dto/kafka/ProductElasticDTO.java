@@ -1,21 +1,36 @@
 package com.example.ElasticCommerce.domain.product.dto.kafka;
 
 import com.example.ElasticCommerce.domain.product.entity.Product;
+import com.example.ElasticCommerce.domain.product.entity.ProductDocument;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * product-topic 메시지.
+ * UPDATE_STOCK / UPDATE_RATING / OPEN / CLOSE 는 변경된 필드만 담는 부분 이벤트이며,
+ * 나머지 필드는 null 로 두고 직렬화에서 제외합니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ProductElasticDTO(
         String id,
         String productCode,
         String name,
         String category,
-        int stockQuantity,
+        Integer stockQuantity,
         String brand,
         String imageUrl,
-        boolean available,
+        Boolean available,
         String description,
         Long price,
-        double rating,
+        Double rating,
         String eventType
 ) {
+    private static final Set<String> PARTIAL_EVENT_TYPES = Set.of("UPDATE_STOCK", "UPDATE_RATING", "OPEN", "CLOSE");
+
     public static ProductElasticDTO from(Product product, String eventType) {
         return new ProductElasticDTO(
                 product.getId().toString(),
@@ -32,4 +47,99 @@ public record ProductElasticDTO(
                 eventType
         );
     }
+
+    public static ProductElasticDTO stockOf(Product product) {
+        return new ProductElasticDTO(
+                product.getId().toString(), null, null, null,
+                product.getStockQuantity(), null, null, product.isAvailable(),
+                null, null, null, "UPDATE_STOCK"
+        );
+    }
+
+    public static ProductElasticDTO ratingOf(Product product) {
+        return new ProductElasticDTO(
+                product.getId().toString(), null, null, null,
+                null, null, null, null,
+                null, null, product.getRating(), "UPDATE_RATING"
+        );
+    }
+
+    public static ProductElasticDTO availabilityOf(Product product, String eventType) {
+        return new ProductElasticDTO(
+                product.getId().toString(), null, null, null,
+                null, null, null, product.isAvailable(),
+                null, null, null, eventType
+        );
+    }
+
+    @JsonIgnore
+    public boolean isDelete() {
+        return "DELETE".equals(eventType);
+    }
+
+    @JsonIgnore
+    public boolean isPartial() {
+        return PARTIAL_EVENT_TYPES.contains(eventType);
+    }
+
+    /**
+     * 부분 이벤트에 담긴 필드만 ES _update 의 doc 으로 사용합니다.
+     */
+    public Map<String, Object> partialFields() {
+        Map<String, Object> fields = new HashMap<>();
+        putIfPresent(fields, "productCode", productCode);
+        putIfPresent(fields, "name", name);
+        putIfPresent(fields, "category", category);
+        putIfPresent(fields, "stockQuantity", stockQuantity);
+        putIfPresent(fields, "brand", brand);
+        putIfPresent(fields, "imageUrl", imageUrl);
+        putIfPresent(fields, "available", available);
+        putIfPresent(fields, "description", description);
+        putIfPresent(fields, "price", price);
+        putIfPresent(fields, "rating", rating);
+        return fields;
+    }
+
+    /**
+     * 이 이벤트 위에 이후에 발생한 부분 이벤트의 필드를 덮어씁니다.
+     * 결과 이벤트 타입은 전체 이벤트 위에 덮으면 그대로 유지하고, 부분 이벤트끼리면 최신 타입을 따릅니다.
+     */
+    public ProductElasticDTO overlay(ProductElasticDTO partial) {
+        return new ProductElasticDTO(
+                id,
+                partial.productCode != null ? partial.productCode : productCode,
+                partial.name != null ? partial.name : name,
+                partial.category != null ? partial.category : category,
+                partial.stockQuantity != null ? partial.stockQuantity : stockQuantity,
+                partial.brand != null ? partial.brand : brand,
+                partial.imageUrl != null ? partial.imageUrl : imageUrl,
+                partial.available != null ? partial.available : available,
+                partial.description != null ? partial.description : description,
+                partial.price != null ? partial.price : price,
+                partial.rating != null ? partial.rating : rating,
+                isPartial() ? partial.eventType : eventType
+        );
+    }
+
+    public ProductDocument toDocument() {
+        return ProductDocument.builder()
+                              .id(id)
+                              .productCode(productCode)
+                              .name(name)
+                              .description(description)
+                              .price(price)
+                              .category(category)
+                              .stockQuantity(stockQuantity)
+                              .brand(brand)
+                              .imageUrl(imageUrl)
+                              .available(Boolean.TRUE.equals(available))
+                              .rating(rating != null ? rating : 0.0)
+                              .build();
+    }
+
+    private static void putIfPresent(Map<String, Object> fields, String name, Object value) {
+        if (value != null) {
+            fields.put(name, value);
+        }
+    }
 }
@@ -0,0 +1,7 @@
+package com.example.ElasticCommerce.domain.product.dto.response;
+
+public record FacetBucket(
+        String key,
+        long count
+) {
+}
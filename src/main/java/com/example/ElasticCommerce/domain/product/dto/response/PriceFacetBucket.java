@@ -0,0 +1,8 @@
+package com.example.ElasticCommerce.domain.product.dto.response;
+
+public record PriceFacetBucket(
+        long from,
+        long to,
+        long count
+) {
+}
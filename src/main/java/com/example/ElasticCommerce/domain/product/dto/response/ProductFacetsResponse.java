@@ -0,0 +1,11 @@
+package com.example.ElasticCommerce.domain.product.dto.response;
+
+import java.util.List;
+
+public record ProductFacetsResponse(
+        List<FacetBucket> categories,
+        List<FacetBucket> brands,
+        List<PriceFacetBucket> prices,
+        List<FacetBucket> ratings
+) {
+}
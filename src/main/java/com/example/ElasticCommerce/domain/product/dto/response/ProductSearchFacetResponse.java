@@ -0,0 +1,9 @@
+package com.example.ElasticCommerce.domain.product.dto.response;
+
+import java.util.List;
+
+public record ProductSearchFacetResponse(
+        List<ProductResponse> products,
+        ProductFacetsResponse facets
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.ElasticCommerce.domain.product.dto.response;
+
+public record ProductSuggestionRow(
+        Long id,
+        String name,
+        double rating
+) {
+}
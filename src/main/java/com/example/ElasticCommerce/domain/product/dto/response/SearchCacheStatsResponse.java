@@ -0,0 +1,21 @@
+package com.example.ElasticCommerce.domain.product.dto.response;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+public record SearchCacheStatsResponse(
+        long hitCount,
+        long missCount,
+        double hitRate,
+        long evictionCount,
+        long size
+) {
+    public static SearchCacheStatsResponse from(CacheStats stats, long size) {
+        return new SearchCacheStatsResponse(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                size
+        );
+    }
+}
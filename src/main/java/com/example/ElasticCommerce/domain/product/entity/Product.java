@@ -47,6 +47,13 @@ public class Product extends BaseEntity {
     @Column(nullable = false)
     private double rating = 0.0;
 
+    // 리뷰 평점 합계/리뷰 수: 리뷰 변경 증분으로 갱신하며 rating 은 두 값의 평균
+    @Column(nullable = false)
+    private double ratingSum = 0.0;
+
+    @Column(nullable = false)
+    private long ratingCount = 0L;
+
     @Builder
     public Product(String productCode, String name, String category, Integer stockQuantity, String brand, String imageUrl, String description, Long price) {
         this.productCode = productCode;
@@ -59,8 +66,8 @@ public class Product extends BaseEntity {
         this.price = price;
     }
 
-    public void updateRating(double updateRating) {
-        this.rating = updateRating;
+    public static double averageRating(double ratingSum, long ratingCount) {
+        return ratingCount > 0 ? ratingSum / ratingCount : 0.0;
     }
 
     public void updateStockQuantity(Integer newStockQuantity) {
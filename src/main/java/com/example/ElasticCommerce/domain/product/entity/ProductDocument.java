@@ -42,7 +42,11 @@ public class ProductDocument {
     @Field(type = FieldType.Integer)
     private Integer stockQuantity;
 
-    @Field(type = FieldType.Text, analyzer = "products_brand_analyzer")
+    @MultiField(mainField = @Field(type = FieldType.Text, analyzer = "products_brand_analyzer"),
+            otherFields = {
+                    @InnerField(suffix = "raw", type = FieldType.Keyword)
+            }
+    )
     private String brand;
 
     @Field(type = FieldType.Keyword)
@@ -17,7 +17,9 @@ public enum ProductExceptionType implements ExceptionType{
     PRODUCT_UPDATE_FAILED(2008, "상품 수정에 실패했습니다."),
     PRODUCT_DELETE_FAILED(2009, "상품 삭제에 실패했습니다."),
     PRICE_UPDATE_FORBIDDEN(2010, "상품 가격은 변경할 수 없습니다."),
-    INVALID_STOCK_QUANTITY(2011, "재고수량은 0 이상이어야 합니다.");
+    INVALID_STOCK_QUANTITY(2011, "재고수량은 0 이상이어야 합니다."),
+    INVALID_CURSOR(2012, "유효하지 않은 페이지 커서입니다."),
+    INVALID_PAGE_SIZE(2013, "유효하지 않은 페이지 크기입니다.");
 
 
     private final int statusCode;
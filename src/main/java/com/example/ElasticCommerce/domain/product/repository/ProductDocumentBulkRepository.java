@@ -0,0 +1,77 @@
+package com.example.ElasticCommerce.domain.product.repository;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ErrorCause;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.example.ElasticCommerce.domain.product.dto.kafka.ProductElasticDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductDocumentBulkRepository {
+
+    private static final String INDEX = "products";
+
+    private final ElasticsearchClient elasticsearchClient;
+
+    /**
+     * 상품 이벤트 목록을 하나의 _bulk 요청으로 Elasticsearch에 반영합니다.
+     * DELETE 이벤트는 delete 작업으로, 부분 이벤트는 변경 필드만 담은 update 작업으로,
+     * 그 외 이벤트는 문서 전체 index(upsert) 작업으로 변환됩니다.
+     *
+     * @param events 반영할 상품 이벤트 목록
+     * @return 실패한 항목 목록 (events 기준 인덱스 포함), 모두 성공하면 빈 리스트
+     * @throws IOException Elasticsearch 요청 자체가 실패한 경우
+     */
+    public List<BulkFailure> bulk(List<ProductElasticDTO> events) throws IOException {
+        if (events.isEmpty()) {
+            return List.of();
+        }
+
+        List<BulkOperation> operations = events.stream()
+                                               .map(this::toOperation)
+                                               .toList();
+
+        BulkResponse response = elasticsearchClient.bulk(b -> b.index(INDEX).operations(operations));
+        if (!response.errors()) {
+            return List.of();
+        }
+
+        // 응답 items 순서는 요청한 operations 순서와 동일
+        List<BulkFailure> failures = new ArrayList<>();
+        List<BulkResponseItem> items = response.items();
+        for (int i = 0; i < items.size(); i++) {
+            ErrorCause error = items.get(i).error();
+            if (error != null) {
+                failures.add(new BulkFailure(i, items.get(i).id(), error.reason()));
+            }
+        }
+        return failures;
+    }
+
+    private BulkOperation toOperation(ProductElasticDTO event) {
+        if (event.isDelete()) {
+            return BulkOperation.of(op -> op.delete(d -> d.id(event.id())));
+        }
+        if (event.isPartial()) {
+            // 문서가 없으면 document_missing 오류로 실패 처리 (부분 필드만으로 문서를 만들지 않음)
+            return BulkOperation.of(op -> op.update(u -> u.id(event.id())
+                                                          .action(a -> a.doc(event.partialFields()))));
+        }
+        return BulkOperation.of(op -> op.index(i -> i.id(event.id()).document(event.toDocument())));
+    }
+
+    public record BulkFailure(
+            int index,
+            String id,
+            String reason
+    ) {
+    }
+}
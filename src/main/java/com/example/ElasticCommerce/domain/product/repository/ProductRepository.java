@@ -1,7 +1,58 @@
 package com.example.ElasticCommerce.domain.product.repository;
 
+import com.example.ElasticCommerce.domain.product.dto.response.ProductSuggestionRow;
 import com.example.ElasticCommerce.domain.product.entity.Product;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    // 키셋 페이징: PK 인덱스로 바로 시작 위치를 찾으므로 OFFSET 처럼 앞 페이지 행을 읽고 버리지 않음
+    List<Product> findByIdGreaterThanOrderByIdAsc(Long lastId, Limit limit);
+
+    // 평점 합계/수 적재용: 아직 리뷰 수가 0 인 상품만 키셋으로 순회
+    List<Product> findByIdGreaterThanAndRatingCountOrderByIdAsc(Long lastId, long ratingCount, Limit limit);
+
+    @Query("SELECT new com.example.ElasticCommerce.domain.product.dto.response.ProductSuggestionRow(p.id, p.name, p.rating) "
+            + "FROM Product p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<ProductSuggestionRow> findSuggestionRowsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 조건부 차감: 재고 확인과 차감을 한 문장으로 처리하므로 동시 주문에도 초과 판매/갱신 유실이 없음 (0 이면 재고 부족)
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity - :quantity "
+            + "WHERE p.id = :productId AND p.stockQuantity >= :quantity")
+    int decreaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :quantity WHERE p.id = :productId")
+    int increaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    // 평점 증분 반영. MySQL 은 SET 절을 왼쪽부터 적용하므로 rating 을 먼저 두어 합계/수 갱신 전 값으로 평균을 계산
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET "
+            + "p.rating = CASE WHEN p.ratingCount + :countDelta > 0 "
+            + "THEN (p.ratingSum + :sumDelta) / (p.ratingCount + :countDelta) ELSE 0.0 END, "
+            + "p.ratingSum = p.ratingSum + :sumDelta, "
+            + "p.ratingCount = p.ratingCount + :countDelta "
+            + "WHERE p.id = :productId")
+    int applyRatingDelta(@Param("productId") Long productId,
+                         @Param("sumDelta") double sumDelta,
+                         @Param("countDelta") long countDelta);
+
+    // 평점 보정: 관찰한 합계/수가 그대로일 때만 덮어써 그 사이 반영된 증분을 잃지 않음 (0 이면 값이 바뀌어 건너뜀)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p SET p.rating = :rating, p.ratingSum = :ratingSum, p.ratingCount = :ratingCount "
+            + "WHERE p.id = :productId AND p.ratingSum = :observedSum AND p.ratingCount = :observedCount")
+    int resetRating(@Param("productId") Long productId,
+                    @Param("observedSum") double observedSum,
+                    @Param("observedCount") long observedCount,
+                    @Param("ratingSum") double ratingSum,
+                    @Param("ratingCount") long ratingCount,
+                    @Param("rating") double rating);
 }
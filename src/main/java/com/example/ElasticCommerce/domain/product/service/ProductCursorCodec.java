@@ -0,0 +1,85 @@
+package com.example.ElasticCommerce.domain.product.service;
+
+import com.example.ElasticCommerce.domain.product.exception.ProductExceptionType;
+import com.example.ElasticCommerce.global.exception.type.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 상품 목록/검색 커서를 클라이언트에 노출할 불투명 토큰(base64url)으로 변환합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProductCursorCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public String encodeListCursor(Long lastId) {
+        return encode(String.valueOf(lastId));
+    }
+
+    public long decodeListCursor(String cursor) {
+        try {
+            return Long.parseLong(decode(cursor));
+        } catch (NumberFormatException e) {
+            throw invalid(cursor, e);
+        }
+    }
+
+    public String encodeSearchCursor(SearchCursor searchCursor) {
+        try {
+            return encode(objectMapper.writeValueAsString(searchCursor));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("검색 커서 직렬화 실패", e);
+        }
+    }
+
+    public SearchCursor decodeSearchCursor(String cursor) {
+        try {
+            SearchCursor searchCursor = objectMapper.readValue(decode(cursor), SearchCursor.class);
+            // 정렬 값은 (_score, _shard_doc) 두 개의 숫자여야 함
+            if (searchCursor.pitId() == null || searchCursor.searchAfter() == null || searchCursor.searchAfter().size() != 2
+                    || !searchCursor.searchAfter().stream().allMatch(value -> value instanceof Number)) {
+                throw invalid(cursor, null);
+            }
+            return searchCursor;
+        } catch (IOException e) {
+            throw invalid(cursor, e);
+        }
+    }
+
+    private String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String decode(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw invalid(cursor, e);
+        }
+    }
+
+    private BadRequestException invalid(String cursor, Exception cause) {
+        log.warn("[Cursor][DECODE] 유효하지 않은 커서: {}", cursor, cause);
+        return new BadRequestException(ProductExceptionType.INVALID_CURSOR);
+    }
+
+    /**
+     * Elasticsearch 검색 커서: point-in-time id 와 마지막 히트의 정렬 값(_score, _shard_doc).
+     */
+    public record SearchCursor(
+            String pitId,
+            List<Object> searchAfter
+    ) {
+    }
+}
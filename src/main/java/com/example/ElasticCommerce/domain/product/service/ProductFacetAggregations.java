@@ -0,0 +1,126 @@
+package com.example.ElasticCommerce.domain.product.service;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.Buckets;
+import co.elastic.clients.elasticsearch._types.aggregations.FiltersBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.NumberRangeQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import com.example.ElasticCommerce.domain.product.dto.response.FacetBucket;
+import com.example.ElasticCommerce.domain.product.dto.response.PriceFacetBucket;
+import com.example.ElasticCommerce.domain.product.dto.response.ProductFacetsResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.core.AggregationsContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색 패싯 집계 정의와 결과 변환.
+ * 카테고리/브랜드 terms, 가격 histogram, 평점 "N점 이상" 구간을 검색 요청에 함께 실어 한 번에 받습니다.
+ */
+@Component
+public class ProductFacetAggregations {
+
+    private static final String CATEGORIES = "categories";
+    private static final String BRANDS     = "brands";
+    private static final String PRICES     = "prices";
+    private static final String RATINGS    = "ratings";
+
+    private static final int[] RATING_THRESHOLDS = {4, 3, 2, 1};
+
+    private final int    termsSize;
+    private final double priceInterval;
+
+    public ProductFacetAggregations(
+            @Value("${product.search-facets.terms-size}") int termsSize,
+            @Value("${product.search-facets.price-interval}") double priceInterval
+    ) {
+        this.termsSize = termsSize;
+        this.priceInterval = priceInterval;
+    }
+
+    public Map<String, Aggregation> all() {
+        Map<String, Aggregation> aggregations = new LinkedHashMap<>();
+        aggregations.put(CATEGORIES, Aggregation.of(a -> a.terms(t -> t.field("category.raw").size(termsSize))));
+        aggregations.put(BRANDS, Aggregation.of(a -> a.terms(t -> t.field("brand.raw").size(termsSize))));
+        aggregations.put(PRICES, Aggregation.of(a -> a.histogram(h -> h.field("price").interval(priceInterval).minDocCount(1))));
+        aggregations.put(RATINGS, Aggregation.of(a -> a.filters(f -> f.filters(Buckets.of(b -> b.keyed(ratingFilters()))))));
+        return aggregations;
+    }
+
+    public ProductFacetsResponse read(AggregationsContainer<?> container) {
+        Map<String, Aggregate> aggregates = aggregates(container);
+        return new ProductFacetsResponse(
+                terms(aggregates.get(CATEGORIES)),
+                terms(aggregates.get(BRANDS)),
+                prices(aggregates.get(PRICES)),
+                ratings(aggregates.get(RATINGS))
+        );
+    }
+
+    private Map<String, Query> ratingFilters() {
+        Map<String, Query> filters = new LinkedHashMap<>();
+        for (int threshold : RATING_THRESHOLDS) {
+            filters.put(String.valueOf(threshold), NumberRangeQuery.of(r -> r
+                    .field("rating")
+                    .gte((double) threshold)
+            )._toRangeQuery()._toQuery());
+        }
+        return filters;
+    }
+
+    private Map<String, Aggregate> aggregates(AggregationsContainer<?> container) {
+        if (!(container instanceof ElasticsearchAggregations elasticsearchAggregations)) {
+            return Map.of();
+        }
+        return elasticsearchAggregations.aggregationsAsMap().values().stream()
+                                        .map(ElasticsearchAggregation::aggregation)
+                                        .collect(Collectors.toMap(
+                                                aggregation -> aggregation.getName(),
+                                                aggregation -> aggregation.getAggregate()
+                                        ));
+    }
+
+    private List<FacetBucket> terms(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isSterms()) {
+            return List.of();
+        }
+        return aggregate.sterms().buckets().array().stream()
+                        .map(bucket -> new FacetBucket(bucket.key().stringValue(), bucket.docCount()))
+                        .collect(Collectors.toList());
+    }
+
+    private List<PriceFacetBucket> prices(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isHistogram()) {
+            return List.of();
+        }
+        return aggregate.histogram().buckets().array().stream()
+                        .map(bucket -> new PriceFacetBucket(
+                                (long) bucket.key(),
+                                (long) (bucket.key() + priceInterval),
+                                bucket.docCount()))
+                        .collect(Collectors.toList());
+    }
+
+    private List<FacetBucket> ratings(Aggregate aggregate) {
+        if (aggregate == null || !aggregate.isFilters()) {
+            return List.of();
+        }
+        Map<String, FiltersBucket> buckets = aggregate.filters().buckets().keyed();
+        List<FacetBucket> ratings = new ArrayList<>();
+        for (int threshold : RATING_THRESHOLDS) {
+            FiltersBucket bucket = buckets.get(String.valueOf(threshold));
+            if (bucket != null) {
+                ratings.add(new FacetBucket(String.valueOf(threshold), bucket.docCount()));
+            }
+        }
+        return ratings;
+    }
+}
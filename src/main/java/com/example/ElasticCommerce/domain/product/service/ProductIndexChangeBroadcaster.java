@@ -0,0 +1,67 @@
+package com.example.ElasticCommerce.domain.product.service;
+
+import com.example.ElasticCommerce.domain.product.dto.event.ProductIndexChange;
+import com.example.ElasticCommerce.domain.product.dto.event.ProductIndexChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * product-topic 은 컨슈머 그룹 내 한 노드만 소비하므로,
+ * 색인 결과를 Redis pub/sub 으로 모든 노드에 전파해 각 노드의 로컬 캐시가 갱신되도록 합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProductIndexChangeBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "product-index-changes";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ApplicationEventPublisher     eventPublisher;
+    private final ObjectMapper                  objectMapper;
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public void broadcast(List<ProductIndexChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        ProductIndexChangedEvent event = new ProductIndexChangedEvent(changes);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            log.error("[ProductIndex][BROADCAST] 직렬화 실패: {}건", changes.size(), e);
+        } catch (RuntimeException e) {
+            // Redis 장애 시 최소한 현재 노드의 캐시는 무효화 (다른 노드는 TTL 로 만료)
+            log.warn("[ProductIndex][BROADCAST] Redis 전파 실패, 로컬에만 반영: {}건", changes.size(), e);
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ProductIndexChangedEvent event = objectMapper.readValue(message.getBody(), ProductIndexChangedEvent.class);
+            eventPublisher.publishEvent(event);
+        } catch (IOException e) {
+            log.error("[ProductIndex][SUBSCRIBE] 메시지 파싱 실패", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.ElasticCommerce.domain.product.service;
+
+import com.example.ElasticCommerce.domain.product.entity.Product;
+import com.example.ElasticCommerce.domain.product.repository.ProductRepository;
+import com.example.ElasticCommerce.domain.product.service.kafka.ProductRatingConsumer;
+import com.example.ElasticCommerce.domain.review.dto.response.ProductRatingAggregate;
+import com.example.ElasticCommerce.domain.review.repository.ReviewRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 증분 평점 컬럼(ratingSum/ratingCount)이 추가되기 전 상품의 평점 합계/수를 리뷰 집계로 한 번 채운 뒤
+ * 평점 증분 컨슈머를 시작합니다. 채우기 전에 증분이 반영되면 리뷰 1건짜리 평균으로 덮이므로 순서를 지킵니다.
+ *
+ * 클러스터에서 한 노드만 적재하고(Redis 락), 끝나면 완료 표시를 남겨 이후 기동에서는 건너뜁니다.
+ * 다른 노드는 완료 표시가 생길 때까지 기다렸다가 컨슈머를 시작합니다.
+ */
+@Component
+@Slf4j
+public class ProductRatingBackfill {
+
+    private static final String DONE_KEY = "product-rating:backfilled";
+    private static final String LOCK_KEY = "product-lock:rating-backfill";
+
+    private final ProductRepository             productRepository;
+    private final ReviewRepository              reviewRepository;
+    private final ProductService                productService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final KafkaListenerEndpointRegistry listenerRegistry;
+    private final int                           batchSize;
+    private final Duration                      waitTimeout;
+
+    public ProductRatingBackfill(
+            ProductRepository productRepository,
+            ReviewRepository reviewRepository,
+            ProductService productService,
+            RedisTemplate<String, String> redisTemplate,
+            KafkaListenerEndpointRegistry listenerRegistry,
+            @Value("${product.rating.reconcile-batch-size}") int batchSize,
+            @Value("${product.rating.backfill-wait-ms}") long waitTimeoutMillis
+    ) {
+        this.productRepository = productRepository;
+        this.reviewRepository = reviewRepository;
+        this.productService = productService;
+        this.redisTemplate = redisTemplate;
+        this.listenerRegistry = listenerRegistry;
+        this.batchSize = batchSize;
+        this.waitTimeout = Duration.ofMillis(waitTimeoutMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillThenStartConsumer() {
+        try {
+            ensureBackfilled();
+        } catch (RuntimeException e) {
+            // 적재하지 못한 상품은 ProductRatingReconciler 가 보정하므로 증분 반영은 계속함
+            log.error("[ProductRating][BACKFILL] 평점 합계/수 적재 실패, 컨슈머는 시작", e);
+        }
+
+        MessageListenerContainer container = listenerRegistry.getListenerContainer(ProductRatingConsumer.LISTENER_ID);
+        if (container != null && !container.isRunning()) {
+            container.start();
+            log.info("[ProductRating][BACKFILL] 평점 증분 컨슈머 시작");
+        }
+    }
+
+    private void ensureBackfilled() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", waitTimeout))) {
+            try {
+                backfill();
+                redisTemplate.opsForValue().set(DONE_KEY, "1");
+            } finally {
+                redisTemplate.delete(LOCK_KEY);
+            }
+            return;
+        }
+
+        // 다른 노드가 적재 중: 끝날 때까지 대기
+        long deadline = System.currentTimeMillis() + waitTimeout.toMillis();
+        while (!Boolean.TRUE.equals(redisTemplate.hasKey(DONE_KEY))) {
+            if (System.currentTimeMillis() > deadline) {
+                log.warn("[ProductRating][BACKFILL] 다른 노드의 적재 완료를 기다리다 시간 초과");
+                return;
+            }
+            try {
+                Thread.sleep(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void backfill() {
+        long startedAt = System.currentTimeMillis();
+        long lastId = 0L;
+        int filled = 0;
+        List<Product> products;
+        do {
+            products = productRepository.findByIdGreaterThanAndRatingCountOrderByIdAsc(lastId, 0L, Limit.of(batchSize));
+            if (products.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Product> byId = products.stream()
+                                              .collect(Collectors.toMap(Product::getId, Function.identity()));
+            for (ProductRatingAggregate aggregate : reviewRepository.aggregateRatingsByProductIdIn(byId.keySet())) {
+                // 관찰한 값(0/0)이 그대로일 때만 덮어씀
+                if (productService.resetRating(byId.get(aggregate.productId()), aggregate.ratingSum(), aggregate.ratingCount())) {
+                    filled++;
+                }
+            }
+            lastId = products.get(products.size() - 1).getId();
+        } while (products.size() == batchSize);
+
+        log.info("[ProductRating][BACKFILL] 평점 합계/수 적재 완료: 상품={}건, 소요={}ms",
+                filled, System.currentTimeMillis() - startedAt);
+    }
+}
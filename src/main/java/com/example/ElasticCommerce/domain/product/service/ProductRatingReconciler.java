@@ -0,0 +1,182 @@
+package com.example.ElasticCommerce.domain.product.service;
+
+import com.example.ElasticCommerce.domain.product.entity.Product;
+import com.example.ElasticCommerce.domain.product.repository.ProductRepository;
+import com.example.ElasticCommerce.domain.review.dto.response.ProductRatingAggregate;
+import com.example.ElasticCommerce.domain.review.repository.ReviewRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 증분으로 관리하는 상품 평점 합계/수를 reviews 테이블 집계와 주기적으로 비교해 어긋남을 보정합니다.
+ *
+ * 처리 중인 평점 이벤트는 잠시 두 값을 어긋나게 하므로, 같은 어긋남(상품 합계/수와 리뷰 집계 모두 그대로)이
+ * 연속 두 번 관찰될 때만 보정합니다. 관찰 기록은 Redis 에 두므로 실행 노드가 바뀌거나 재시작돼도 이어집니다.
+ * 리뷰 전체를 집계하는 긴 작업이므로 스케줄러 스레드가 아닌 전용 스레드에서 실행합니다.
+ */
+@Component
+@Slf4j
+public class ProductRatingReconciler {
+
+    private static final String LOCK_KEY        = "product-lock:rating-reconcile";
+    // 직전 실행에서 관찰한 어긋남 (상품 id → 관찰값), 이번 실행 관찰값은 NEXT 에 모은 뒤 통째로 교체
+    private static final String DRIFTS_KEY      = "product-rating:drifts";
+    private static final String NEXT_DRIFTS_KEY = DRIFTS_KEY + ":next";
+    private static final double EPSILON         = 1e-6;
+
+    private final ProductRepository             productRepository;
+    private final ReviewRepository              reviewRepository;
+    private final ProductService                productService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration                      lockTtl;
+    private final int                           batchSize;
+
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "product-rating-reconcile"));
+    private final AtomicBoolean   running  = new AtomicBoolean();
+
+    public ProductRatingReconciler(
+            ProductRepository productRepository,
+            ReviewRepository reviewRepository,
+            ProductService productService,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${product.rating.reconcile-interval-ms}") long intervalMillis,
+            @Value("${product.rating.reconcile-batch-size}") int batchSize
+    ) {
+        this.productRepository = productRepository;
+        this.reviewRepository = reviewRepository;
+        this.productService = productService;
+        this.redisTemplate = redisTemplate;
+        this.lockTtl = Duration.ofMillis(intervalMillis);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${product.rating.reconcile-interval-ms}", initialDelayString = "${product.rating.reconcile-interval-ms}")
+    public void reconcile() {
+        // 이전 실행이 아직 끝나지 않았으면 건너뜀
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                reconcileAll();
+            } catch (RuntimeException e) {
+                log.error("[ProductRating][ERROR] 평점 보정 실행 실패", e);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void reconcileAll() {
+        // 리뷰 전체를 집계하는 작업이므로 한 주기에 한 노드만 실행
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", lockTtl))) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        // 이번 실행에서 다시 관찰된 어긋남만 남김 (삭제된 상품 등은 자연히 정리)
+        Map<Object, Object> previousDrifts = redisTemplate.opsForHash().entries(DRIFTS_KEY);
+        redisTemplate.delete(NEXT_DRIFTS_KEY);
+
+        long lastId = 0L;
+        int scanned = 0;
+        int repaired = 0;
+        List<Product> products;
+        do {
+            products = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(batchSize));
+            if (products.isEmpty()) {
+                break;
+            }
+
+            List<Long> productIds = products.stream().map(Product::getId).toList();
+            Map<Long, ProductRatingAggregate> aggregates =
+                    reviewRepository.aggregateRatingsByProductIdIn(productIds).stream()
+                                    .collect(Collectors.toMap(ProductRatingAggregate::productId, Function.identity()));
+
+            for (Product product : products) {
+                try {
+                    ProductRatingAggregate actual = aggregates.getOrDefault(product.getId(), ProductRatingAggregate.empty(product.getId()));
+                    Object previous = previousDrifts.get(String.valueOf(product.getId()));
+                    if (reconcile(product, actual, previous == null ? null : Observation.decode(previous.toString()))) {
+                        repaired++;
+                    }
+                } catch (RuntimeException e) {
+                    log.error("[ProductRating][ERROR] 평점 보정 실패: productId={}", product.getId(), e);
+                }
+            }
+            scanned += products.size();
+            lastId = products.get(products.size() - 1).getId();
+        } while (products.size() == batchSize);
+
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(NEXT_DRIFTS_KEY))) {
+            redisTemplate.rename(NEXT_DRIFTS_KEY, DRIFTS_KEY);
+            // 보정 작업이 멈추면 오래된 관찰 기록으로 보정하지 않도록 만료
+            redisTemplate.expire(DRIFTS_KEY, lockTtl.multipliedBy(3));
+        } else {
+            redisTemplate.delete(DRIFTS_KEY);
+        }
+
+        log.info("[ProductRating][RECONCILE] 상품={}건, 보정={}건, 소요={}ms",
+                scanned, repaired, System.currentTimeMillis() - startedAt);
+    }
+
+    private boolean reconcile(Product product, ProductRatingAggregate actual, Observation previous) {
+        if (Math.abs(product.getRatingSum() - actual.ratingSum()) < EPSILON
+                && product.getRatingCount() == actual.ratingCount()) {
+            return false;
+        }
+
+        Observation current = new Observation(product.getRatingSum(), product.getRatingCount(), actual.ratingSum(), actual.ratingCount());
+        if (!current.equals(previous)) {
+            redisTemplate.opsForHash().put(NEXT_DRIFTS_KEY, String.valueOf(product.getId()), current.encode());
+            // 처리 중인 평점 이벤트일 수 있으므로 다음 실행까지 지켜봄
+            log.info("[ProductRating][DRIFT] 평점 어긋남 관찰: productId={}, sum={}→{}, count={}→{}",
+                    product.getId(), product.getRatingSum(), actual.ratingSum(), product.getRatingCount(), actual.ratingCount());
+            return false;
+        }
+
+        boolean repaired = productService.resetRating(product, actual.ratingSum(), actual.ratingCount());
+        if (repaired) {
+            log.warn("[ProductRating][REPAIR] 평점 보정: productId={}, sum={}→{}, count={}→{}",
+                    product.getId(), product.getRatingSum(), actual.ratingSum(), product.getRatingCount(), actual.ratingCount());
+        }
+        return repaired;
+    }
+
+    private record Observation(
+            double productSum,
+            long productCount,
+            double reviewSum,
+            long reviewCount
+    ) {
+        String encode() {
+            return productSum + ":" + productCount + ":" + reviewSum + ":" + reviewCount;
+        }
+
+        static Observation decode(String value) {
+            String[] parts = value.split(":");
+            return new Observation(Double.parseDouble(parts[0]), Long.parseLong(parts[1]),
+                    Double.parseDouble(parts[2]), Long.parseLong(parts[3]));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.ElasticCommerce.domain.product.service;
+
+import com.example.ElasticCommerce.domain.product.dto.event.ProductIndexChange;
+import com.example.ElasticCommerce.domain.product.dto.event.ProductIndexChangedEvent;
+import com.example.ElasticCommerce.domain.product.dto.response.ProductFacetsResponse;
+import com.example.ElasticCommerce.domain.product.dto.response.ProductResponse;
+import com.example.ElasticCommerce.domain.product.dto.response.SearchCacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색 결과 로컬 캐시 (크기 + TTL 제한).
+ * 색인 컨슈머가 반영한 상품 변경이 전파되면, 해당 상품을 포함하거나 같은 카테고리로 필터링한 항목을 제거합니다.
+ * 카테고리 필터가 없는 검색에 새로 매칭되는 상품은 TTL 이 지나야 반영됩니다.
+ * 패싯 집계는 페이지와 무관하므로 페이지를 뺀 검색 조건 단위로 따로 캐시합니다.
+ */
+@Component
+@Slf4j
+public class ProductSearchCache {
+
+    private final Cache<SearchKey, CachedSearch>          cache;
+    private final Cache<FacetKey, ProductFacetsResponse> facetCache;
+    private final long                                   refreshDelayMillis;
+
+    public ProductSearchCache(
+            @Value("${product.search-cache.maximum-size}") long maximumSize,
+            @Value("${product.search-cache.ttl-seconds}") long ttlSeconds,
+            @Value("${product.search-cache.refresh-delay-ms}") long refreshDelayMillis
+    ) {
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                             .recordStats()
+                             .build();
+        this.facetCache = Caffeine.newBuilder()
+                                  .maximumSize(maximumSize)
+                                  .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                                  .build();
+        this.refreshDelayMillis = refreshDelayMillis;
+    }
+
+    public List<ProductResponse> get(SearchKey key, Supplier<List<ProductResponse>> loader) {
+        return cache.get(key, k -> CachedSearch.of(loader.get())).results();
+    }
+
+    public void put(SearchKey key, List<ProductResponse> results) {
+        cache.put(key, CachedSearch.of(results));
+    }
+
+    public ProductFacetsResponse getFacets(SearchKey key) {
+        return facetCache.getIfPresent(FacetKey.from(key));
+    }
+
+    public void putFacets(SearchKey key, ProductFacetsResponse facets) {
+        facetCache.put(FacetKey.from(key), facets);
+    }
+
+    @EventListener
+    public void onProductIndexChanged(ProductIndexChangedEvent event) {
+        Set<String> productIds = event.changes().stream()
+                                      .map(ProductIndexChange::id)
+                                      .collect(Collectors.toSet());
+        Set<String> categories = event.changes().stream()
+                                      .map(ProductIndexChange::category)
+                                      .filter(Objects::nonNull)
+                                      .collect(Collectors.toSet());
+
+        int evicted = evict(productIds, categories);
+        log.debug("[SearchCache][INVALIDATE] 상품={}건, 카테고리={} → {}건 제거", productIds.size(), categories, evicted);
+
+        // ES refresh 전에 이전 결과가 다시 캐시될 수 있으므로 refresh 이후 한 번 더 제거
+        CompletableFuture.delayedExecutor(refreshDelayMillis, TimeUnit.MILLISECONDS)
+                         .execute(() -> evict(productIds, categories));
+    }
+
+    public SearchCacheStatsResponse stats() {
+        return SearchCacheStatsResponse.from(cache.stats(), cache.estimatedSize());
+    }
+
+    private int evict(Set<String> productIds, Set<String> categories) {
+        int before = cache.asMap().size();
+        cache.asMap().entrySet().removeIf(entry ->
+                (entry.getKey().category() != null && categories.contains(entry.getKey().category()))
+                        || entry.getValue().containsAny(productIds));
+        // 패싯은 어떤 상품이 집계됐는지 알 수 없으므로 카테고리 필터 기준으로만 제거 (나머지는 TTL)
+        facetCache.asMap().keySet().removeIf(key -> key.category() != null && categories.contains(key.category()));
+        return before - cache.asMap().size();
+    }
+
+    public record SearchKey(
+            String query,
+            String category,
+            double minPrice,
+            double maxPrice,
+            int page,
+            int size
+    ) {
+        public static SearchKey of(String query, String category, double minPrice, double maxPrice, int page, int size) {
+            String normalizedQuery = query == null ? "" : query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+            String normalizedCategory = category == null || category.isBlank() ? null : category.trim();
+            return new SearchKey(normalizedQuery, normalizedCategory, minPrice, maxPrice, page, size);
+        }
+    }
+
+    private record FacetKey(
+            String query,
+            String category,
+            double minPrice,
+            double maxPrice
+    ) {
+        static FacetKey from(SearchKey key) {
+            return new FacetKey(key.query(), key.category(), key.minPrice(), key.maxPrice());
+        }
+    }
+
+    private record CachedSearch(
+            List<ProductResponse> results,
+            Set<String> productIds
+    ) {
+        static CachedSearch of(List<ProductResponse> results) {
+            Set<String> ids = results.stream()
+                                     .map(response -> String.valueOf(response.id()))
+                                     .collect(Collectors.toSet());
+            return new CachedSearch(List.copyOf(results), ids);
+        }
+
+        boolean containsAny(Set<String> ids) {
+            for (String id : ids) {
+                if (productIds.contains(id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,35 +1,50 @@
 package com.example.ElasticCommerce.domain.product.service;
 
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.*;
 import com.example.ElasticCommerce.domain.product.dto.request.CreateProductRequestDTO;
 import com.example.ElasticCommerce.domain.product.dto.kafka.ProductElasticDTO;
 import com.example.ElasticCommerce.domain.product.dto.request.UpdateProductRequestDTO;
+import com.example.ElasticCommerce.domain.product.dto.response.ProductFacetsResponse;
 import com.example.ElasticCommerce.domain.product.dto.response.ProductResponse;
+import com.example.ElasticCommerce.domain.product.dto.response.ProductSearchFacetResponse;
+import com.example.ElasticCommerce.domain.product.dto.response.SearchCacheStatsResponse;
 import com.example.ElasticCommerce.domain.product.entity.Product;
 import com.example.ElasticCommerce.domain.product.entity.ProductDocument;
 import com.example.ElasticCommerce.domain.product.exception.ProductExceptionType;
 import com.example.ElasticCommerce.domain.product.repository.ProductRepository;
+import com.example.ElasticCommerce.domain.product.service.ProductCursorCodec.SearchCursor;
+import com.example.ElasticCommerce.domain.product.service.ProductSearchCache.SearchKey;
+import com.example.ElasticCommerce.domain.product.service.autocomplete.ProductAutocompleteIndex;
 import com.example.ElasticCommerce.domain.product.service.kafka.KafkaProducerService;
-import com.example.ElasticCommerce.domain.review.repository.ReviewRepository;
+import com.example.ElasticCommerce.domain.review.dto.kafka.ProductRatingKafkaDTO;
+import com.example.ElasticCommerce.global.common.CursorPage;
 import com.example.ElasticCommerce.global.exception.type.BadRequestException;
 import com.example.ElasticCommerce.global.exception.type.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.data.elasticsearch.core.query.HighlightQuery;
 import org.springframework.data.elasticsearch.core.query.highlight.Highlight;
 import org.springframework.data.elasticsearch.core.query.highlight.HighlightField;
 import org.springframework.data.elasticsearch.core.query.highlight.HighlightParameters;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronizationAdapter;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -41,10 +56,22 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final int    SUGGESTION_SIZE = 5;
+    private static final String PRODUCT_INDEX   = "products";
+
+    @Value("${product.search-scroll.pit-keep-alive-seconds}")
+    private long pitKeepAliveSeconds;
+
+    @Value("${product.search-scroll.max-page-size}")
+    private int maxPageSize;
+
     private final ProductRepository productRepository;
     private final ElasticsearchOperations elasticsearchOperations;
-    private final ReviewRepository reviewRepository;
     private final KafkaProducerService kafkaProducerService;
+    private final ProductSearchCache productSearchCache;
+    private final ProductAutocompleteIndex productAutocompleteIndex;
+    private final ProductCursorCodec productCursorCodec;
+    private final ProductFacetAggregations productFacetAggregations;
 
     public List<ProductResponse> getProducts(int page, int size) {
         log.info("[Service][GET_PRODUCTS] page={}, size={}", page, size);
@@ -55,8 +82,32 @@ public class ProductService {
                        .collect(Collectors.toList());
     }
 
+    public CursorPage<ProductResponse> scrollProducts(String cursor, int size) {
+        log.info("[Service][SCROLL_PRODUCTS] cursor={}, size={}", cursor, size);
+        validatePageSize(size);
+        long lastId = hasCursor(cursor) ? productCursorCodec.decodeListCursor(cursor) : 0L;
+
+        // 한 건 더 조회해 다음 페이지 존재 여부를 판단
+        List<Product> products = productRepository.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(size + 1));
+        boolean hasNext = products.size() > size;
+        List<ProductResponse> items = products.stream()
+                                              .limit(size)
+                                              .map(ProductResponse::from)
+                                              .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? productCursorCodec.encodeListCursor(items.get(items.size() - 1).id()) : null;
+        return CursorPage.of(items, nextCursor);
+    }
+
     public List<String> getSuggestions(String query) {
         log.info("[Service][GET_SUGGESTIONS] query={}", query);
+
+        List<String> suggestions = productAutocompleteIndex.suggest(query, SUGGESTION_SIZE);
+        if (!suggestions.isEmpty()) {
+            return suggestions;
+        }
+
+        // 로컬 인덱스가 준비 전이거나 매칭이 없으면 Elasticsearch 로 대체
         Query multiMatchQuery = MultiMatchQuery.of(m -> m
                 .query(query)
                 .type(TextQueryType.BoolPrefix)
@@ -65,7 +116,7 @@ public class ProductService {
 
         NativeQuery nativeQuery = NativeQuery.builder()
                                              .withQuery(multiMatchQuery)
-                                             .withPageable(PageRequest.of(0, 5))
+                                             .withPageable(PageRequest.of(0, SUGGESTION_SIZE))
                                              .build();
 
         SearchHits<ProductDocument> searchHits = this.elasticsearchOperations.search(nativeQuery, ProductDocument.class);
@@ -86,6 +137,125 @@ public class ProductService {
         log.info("[Service][SEARCH_PRODUCTS] query={}, category={}, minPrice={}, maxPrice={}, page={}, size={}",
                 query, category, minPrice, maxPrice, page, size);
 
+        SearchKey key = SearchKey.of(query, category, minPrice, maxPrice, page, size);
+        return productSearchCache.get(key, () -> searchFromIndex(key));
+    }
+
+    public ProductSearchFacetResponse searchProductsWithFacets(
+            String query,
+            String category,
+            double minPrice,
+            double maxPrice,
+            int page,
+            int size
+    ) {
+        log.info("[Service][SEARCH_FACETS] query={}, category={}, minPrice={}, maxPrice={}, page={}, size={}",
+                query, category, minPrice, maxPrice, page, size);
+
+        SearchKey key = SearchKey.of(query, category, minPrice, maxPrice, page, size);
+        ProductFacetsResponse cachedFacets = productSearchCache.getFacets(key);
+        if (cachedFacets != null) {
+            // 같은 조건의 집계가 캐시돼 있으면 히트만 조회 (히트도 캐시돼 있으면 ES 호출 없음)
+            return new ProductSearchFacetResponse(productSearchCache.get(key, () -> searchFromIndex(key)), cachedFacets);
+        }
+
+        log.info("[Service][SEARCH_FACETS][CACHE_MISS] key={}", key);
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                                                     .withQuery(buildSearchQuery(key.query(), key.category(), key.minPrice(), key.maxPrice()))
+                                                     .withHighlightQuery(nameHighlightQuery())
+                                                     .withPageable(PageRequest.of(key.page() - 1, key.size()));
+        productFacetAggregations.all().forEach(queryBuilder::withAggregation);
+
+        SearchHits<ProductDocument> searchHits = this.elasticsearchOperations.search(queryBuilder.build(), ProductDocument.class);
+        List<ProductResponse> products = searchHits.getSearchHits().stream()
+                                                   .map(this::toHighlightedResponse)
+                                                   .collect(Collectors.toList());
+        ProductFacetsResponse facets = productFacetAggregations.read(searchHits.getAggregations());
+
+        productSearchCache.put(key, products);
+        productSearchCache.putFacets(key, facets);
+        return new ProductSearchFacetResponse(products, facets);
+    }
+
+    public SearchCacheStatsResponse getSearchCacheStats() {
+        return productSearchCache.stats();
+    }
+
+    public CursorPage<ProductResponse> scrollSearchProducts(
+            String query,
+            String category,
+            double minPrice,
+            double maxPrice,
+            String cursor,
+            int size
+    ) {
+        log.info("[Service][SCROLL_SEARCH_PRODUCTS] query={}, category={}, minPrice={}, maxPrice={}, cursor={}, size={}",
+                query, category, minPrice, maxPrice, cursor, size);
+        validatePageSize(size);
+
+        SearchCursor searchCursor = hasCursor(cursor) ? productCursorCodec.decodeSearchCursor(cursor) : null;
+        Duration keepAlive = Duration.ofSeconds(pitKeepAliveSeconds);
+        // 첫 페이지에서 point-in-time 을 열어 이후 페이지가 같은 스냅샷을 보도록 함
+        String pitId = searchCursor != null
+                ? searchCursor.pitId()
+                : elasticsearchOperations.openPointInTime(IndexCoordinates.of(PRODUCT_INDEX), keepAlive);
+
+        // 한 건 더 조회해 다음 페이지 존재 여부를 판단
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                                                     .withQuery(buildSearchQuery(query, category, minPrice, maxPrice))
+                                                     .withHighlightQuery(nameHighlightQuery())
+                                                     .withSort(SortOptions.of(s -> s.score(sc -> sc.order(SortOrder.Desc))))
+                                                     .withSort(SortOptions.of(s -> s.field(f -> f.field("_shard_doc").order(SortOrder.Asc))))
+                                                     .withPointInTime(new org.springframework.data.elasticsearch.core.query.Query.PointInTime(pitId, keepAlive))
+                                                     .withPageable(PageRequest.of(0, size + 1));
+        if (searchCursor != null) {
+            queryBuilder.withSearchAfter(searchCursor.searchAfter());
+        }
+
+        SearchHits<ProductDocument> searchHits;
+        try {
+            searchHits = this.elasticsearchOperations.search(queryBuilder.build(), ProductDocument.class);
+        } catch (UncategorizedElasticsearchException e) {
+            // 만료되었거나 알 수 없는 point-in-time, 형식이 맞지 않는 search_after 는 커서 오류로 처리
+            if (searchCursor != null && isCursorRejected(e)) {
+                log.warn("[Service][SCROLL_SEARCH_PRODUCTS] 커서 거부: status={}, message={}", e.getStatusCode(), e.getMessage());
+                throw new BadRequestException(ProductExceptionType.INVALID_CURSOR);
+            }
+            throw e;
+        }
+        List<SearchHit<ProductDocument>> hits = searchHits.getSearchHits();
+        String nextPitId = searchHits.getPointInTimeId() != null ? searchHits.getPointInTimeId() : pitId;
+
+        boolean hasNext = hits.size() > size;
+        List<SearchHit<ProductDocument>> pageHits = hasNext ? hits.subList(0, size) : hits;
+        List<ProductResponse> products = pageHits.stream()
+                                                 .map(this::toHighlightedResponse)
+                                                 .collect(Collectors.toList());
+
+        if (!hasNext) {
+            closePointInTime(nextPitId);
+            return CursorPage.of(products, null);
+        }
+        List<Object> searchAfter = pageHits.get(pageHits.size() - 1).getSortValues();
+        return CursorPage.of(products, productCursorCodec.encodeSearchCursor(new SearchCursor(nextPitId, searchAfter)));
+    }
+
+    private List<ProductResponse> searchFromIndex(SearchKey key) {
+        log.info("[Service][SEARCH_PRODUCTS][CACHE_MISS] key={}", key);
+
+        NativeQuery nativeQuery = NativeQuery.builder()
+                                             .withQuery(buildSearchQuery(key.query(), key.category(), key.minPrice(), key.maxPrice()))
+                                             .withHighlightQuery(nameHighlightQuery())
+                                             .withPageable(PageRequest.of(key.page() - 1, key.size()))
+                                             .build();
+
+        SearchHits<ProductDocument> searchHits = this.elasticsearchOperations.search(nativeQuery, ProductDocument.class);
+        return searchHits.getSearchHits().stream()
+                         .map(this::toHighlightedResponse)
+                         .collect(Collectors.toList());
+    }
+
+    private Query buildSearchQuery(String query, String category, double minPrice, double maxPrice) {
         Query multiMatchQuery = MultiMatchQuery.of(m -> m
                 .query(query)
                 .fields("name^3", "description^1", "category^2")
@@ -93,10 +263,10 @@ public class ProductService {
         )._toQuery();
 
         List<Query> filters = new ArrayList<>();
-        if (category != null && !category.isEmpty()) {
+        if (category != null && !category.isBlank()) {
             Query categoryFilter = TermQuery.of(t -> t
                     .field("category.raw")
-                    .value(category)
+                    .value(category.trim())
             )._toQuery();
             filters.add(categoryFilter);
         }
@@ -113,43 +283,57 @@ public class ProductService {
                 .gt(4.0)
         )._toRangeQuery()._toQuery();
 
-        Query boolQuery = BoolQuery.of(b -> b
+        return BoolQuery.of(b -> b
                 .must(multiMatchQuery)
                 .filter(filters)
                 .should(ratingShould)
         )._toQuery();
+    }
 
+    private HighlightQuery nameHighlightQuery() {
         HighlightParameters highlightParameters = HighlightParameters.builder()
                                                                      .withPreTags("<b>")
                                                                      .withPostTags("</b>")
                                                                      .build();
         Highlight highlight = new Highlight(highlightParameters, List.of(new HighlightField("name")));
-        HighlightQuery highlightQuery = new HighlightQuery(highlight, ProductDocument.class);
+        return new HighlightQuery(highlight, ProductDocument.class);
+    }
 
-        NativeQuery nativeQuery = NativeQuery.builder()
-                                             .withQuery(boolQuery)
-                                             .withHighlightQuery(highlightQuery)
-                                             .withPageable(PageRequest.of(page - 1, size))
-                                             .build();
+    private ProductResponse toHighlightedResponse(SearchHit<ProductDocument> hit) {
+        ProductDocument doc = hit.getContent();
+        Map<String, List<String>> highlightFields = hit.getHighlightFields();
+        if (highlightFields.containsKey("name")
+                && highlightFields.get("name") != null
+                && !highlightFields.get("name").isEmpty()) {
+            String highlightedName = highlightFields.get("name").get(0);
+            doc.highlighting(highlightedName);
+        }
+        return ProductResponse.from(doc);
+    }
 
-        SearchHits<ProductDocument> searchHits = this.elasticsearchOperations.search(nativeQuery, ProductDocument.class);
-        List<ProductDocument> productDocuments = searchHits.getSearchHits().stream()
-                                                           .map(hit -> {
-                                                               ProductDocument doc = hit.getContent();
-                                                               Map<String, List<String>> highlightFields = hit.getHighlightFields();
-                                                               if (highlightFields.containsKey("name")
-                                                                       && highlightFields.get("name") != null
-                                                                       && !highlightFields.get("name").isEmpty()) {
-                                                                   String highlightedName = highlightFields.get("name").get(0);
-                                                                   doc.highlighting(highlightedName);
-                                                               }
-                                                               return doc;
-                                                           })
-                                                           .collect(Collectors.toList());
-
-        return productDocuments.stream()
-                               .map(ProductResponse::from)
-                               .collect(Collectors.toList());
+    private void closePointInTime(String pitId) {
+        try {
+            elasticsearchOperations.closePointInTime(pitId);
+        } catch (RuntimeException e) {
+            // 닫기에 실패해도 keep-alive 가 지나면 ES 가 정리함
+            log.warn("[Service][SCROLL_SEARCH_PRODUCTS] point-in-time 닫기 실패: {}", e.getMessage());
+        }
+    }
+
+    private boolean isCursorRejected(UncategorizedElasticsearchException e) {
+        Integer status = e.getStatusCode();
+        return status != null && (status == 400 || status == 404);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > maxPageSize) {
+            log.warn("[Service][SCROLL] 페이지 크기 오류: size={}, max={}", size, maxPageSize);
+            throw new BadRequestException(ProductExceptionType.INVALID_PAGE_SIZE);
+        }
+    }
+
+    private boolean hasCursor(String cursor) {
+        return cursor != null && !cursor.isBlank();
     }
 
     @Transactional
@@ -231,7 +415,7 @@ public class ProductService {
             log.info("[Service][UPDATE_STOCK] 재고 초과로 상품 품절: id={}", productId);
         }
 
-        kafkaProducerService.sendProduct("product-topic", ProductElasticDTO.from(product, "UPDATE_STOCK"));
+        kafkaProducerService.sendProduct("product-topic", ProductElasticDTO.stockOf(product));
         log.info("[Service][UPDATE_STOCK] Kafka 이벤트 전송 완료: eventType=UPDATE_STOCK, id={}", productId);
 
         return ProductResponse.from(product);
@@ -244,7 +428,7 @@ public class ProductService {
                                            .orElseThrow(() -> new NotFoundException(ProductExceptionType.PRODUCT_NOT_FOUND));
 
         product.openProduct();
-        kafkaProducerService.sendProduct("product-topic", ProductElasticDTO.from(product, "OPEN"));
+        kafkaProducerService.sendProduct("product-topic", ProductElasticDTO.availabilityOf(product, "OPEN"));
         log.info("[Service][OPEN_PRODUCT] Kafka 이벤트 전송 완료: eventType=OPEN, id={}", productId);
 
         return ProductResponse.from(product);
@@ -257,35 +441,64 @@ public class ProductService {
                                            .orElseThrow(() -> new NotFoundException(ProductExceptionType.PRODUCT_NOT_FOUND));
 
         product.closeProduct();
-        kafkaProducerService.sendProduct("product-topic", ProductElasticDTO.from(product, "CLOSE"));
+        kafkaProducerService.sendProduct("product-topic", ProductElasticDTO.availabilityOf(product, "CLOSE"));
         log.info("[Service][CLOSE_PRODUCT] Kafka 이벤트 전송 완료: eventType=CLOSE, id={}", productId);
 
         return ProductResponse.from(product);
     }
 
+    /**
+     * 상품별로 합친 평점 증분을 평점 합계/수에 더하고, 갱신된 상품마다 색인 이벤트를 한 번씩 보냅니다.
+     * 리뷰 전체를 집계하지 않으므로 리뷰 수와 무관하게 상품당 UPDATE 한 번으로 끝납니다.
+     */
     @Transactional
-    public void updateAverageRating(Long productId) {
-        double avgRating = reviewRepository
-                .findAverageRatingByProductId(productId);
-
-        Product product = productRepository.findById(productId)
-                                           .orElseThrow(() -> new NotFoundException(ProductExceptionType.PRODUCT_NOT_FOUND));
+    public void applyRatingDeltas(Collection<ProductRatingKafkaDTO> deltas) {
+        List<Long> updatedIds = new ArrayList<>(deltas.size());
+        for (ProductRatingKafkaDTO delta : deltas) {
+            if (delta.sumDelta() == 0.0 && delta.countDelta() == 0L) {
+                // 창 안에서 상쇄된 증분
+                continue;
+            }
+            if (productRepository.applyRatingDelta(delta.productId(), delta.sumDelta(), delta.countDelta()) == 0) {
+                log.warn("[상품평점동기화] 상품ID={} 상품이 없어 평점 증분 무시", delta.productId());
+                continue;
+            }
+            updatedIds.add(delta.productId());
+        }
+        if (updatedIds.isEmpty()) {
+            return;
+        }
 
-        product.updateRating(avgRating);
-        productRepository.save(product);
+        // 평점 변경과 같은 트랜잭션에서 outbox 에 적재, 커밋된 경우에만 발행됨
+        List<Product> products = productRepository.findAllById(updatedIds);
+        for (Product product : products) {
+            kafkaProducerService.sendProduct("product-topic", ProductElasticDTO.ratingOf(product));
+        }
+        log.info("[상품평점동기화] 상품={}건 평균 평점 동기화 완료", products.size());
+    }
 
-        // 트랜잭션이 커밋된 이후에만 메시지를 보냄
-        TransactionSynchronizationManager.registerSynchronization(
-                new TransactionSynchronizationAdapter() {
-                    @Override
-                    public void afterCommit() {
-                        kafkaProducerService.sendProduct(
-                                "product-topic",
-                                ProductElasticDTO.from(product, "UPDATE_RATING")
-                        );
-                        log.info("[상품평점동기화] 상품ID={} 평균평점={} 평균 평점 동기화 완료", productId, avgRating);
-                    }
-                }
+    /**
+     * 보정 작업이 관찰한 합계/수가 그대로일 때 리뷰 테이블 집계값으로 덮어씁니다.
+     *
+     * @return 보정했으면 true, 그 사이 증분이 반영돼 값이 바뀌었으면 false
+     */
+    @Transactional
+    public boolean resetRating(Product observed, double ratingSum, long ratingCount) {
+        int updated = productRepository.resetRating(
+                observed.getId(),
+                observed.getRatingSum(),
+                observed.getRatingCount(),
+                ratingSum,
+                ratingCount,
+                Product.averageRating(ratingSum, ratingCount)
         );
+        if (updated == 0) {
+            return false;
+        }
+
+        Product product = productRepository.findById(observed.getId())
+                                           .orElseThrow(() -> new NotFoundException(ProductExceptionType.PRODUCT_NOT_FOUND));
+        kafkaProducerService.sendProduct("product-topic", ProductElasticDTO.ratingOf(product));
+        return true;
     }
 }
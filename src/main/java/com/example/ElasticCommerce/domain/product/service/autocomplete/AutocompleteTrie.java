@@ -0,0 +1,238 @@
+package com.example.ElasticCommerce.domain.product.service.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 정규화된 상품명 키로 구성한 접두어 트라이.
+ * 각 노드는 하위 트리에서 가중치(평점)가 가장 높은 상위 K 개 항목을 미리 계산해 두므로
+ * 조회는 접두어 길이만큼만 내려가면 됩니다. 스레드 안전하지 않으므로 호출 측에서 동기화합니다.
+ */
+final class AutocompleteTrie {
+
+    private static final char[]  EMPTY_CHARS   = new char[0];
+    private static final Node[]  EMPTY_NODES   = new Node[0];
+    private static final Entry[] EMPTY_ENTRIES = new Entry[0];
+
+    private static final Comparator<Entry> BY_WEIGHT = Comparator.comparingDouble(Entry::weight).reversed()
+                                                                 .thenComparing(Entry::name);
+
+    private final int                topK;
+    private final Node               root    = new Node();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    AutocompleteTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 초기 적재용: 상위 K 계산을 미루고 키만 삽입합니다. 적재가 끝나면 {@link #finishLoad()} 를 호출해야 합니다.
+     */
+    void load(String id, String name, double weight) {
+        Entry entry = new Entry(id, name, weight, HangulNormalizer.indexKeys(name));
+        entries.put(id, entry);
+        for (String key : entry.keys()) {
+            path(key, true).get(key.length()).addTerminal(entry);
+        }
+    }
+
+    void finishLoad() {
+        recomputeSubtree(root);
+    }
+
+    void put(String id, String name, double weight) {
+        remove(id);
+        Entry entry = new Entry(id, name, weight, HangulNormalizer.indexKeys(name));
+        entries.put(id, entry);
+        for (String key : entry.keys()) {
+            List<Node> path = path(key, true);
+            path.get(key.length()).addTerminal(entry);
+            refresh(path);
+        }
+    }
+
+    void updateWeight(String id, double weight) {
+        Entry entry = entries.get(id);
+        if (entry != null && entry.weight() != weight) {
+            put(id, entry.name(), weight);
+        }
+    }
+
+    void remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (String key : entry.keys()) {
+            List<Node> path = path(key, false);
+            if (path == null) {
+                continue;
+            }
+            path.get(key.length()).removeTerminal(id);
+            // 비어 있는 노드는 부모에서 떼어냄
+            for (int depth = key.length(); depth > 0 && path.get(depth).isEmpty(); depth--) {
+                path.get(depth - 1).removeChild(key.charAt(depth - 1));
+            }
+            refresh(path);
+        }
+    }
+
+    List<String> search(String normalizedPrefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < normalizedPrefix.length() && node != null; i++) {
+            node = node.child(normalizedPrefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (Entry entry : node.top) {
+            names.add(entry.name());
+            if (names.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 루트부터 key 끝까지의 노드 목록 (index = 깊이). create 가 false 이고 경로가 없으면 null.
+     */
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = create ? node.getOrCreateChild(key.charAt(i)) : node.child(key.charAt(i));
+            if (node == null) {
+                return null;
+            }
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void refresh(List<Node> path) {
+        for (int depth = path.size() - 1; depth >= 0; depth--) {
+            path.get(depth).recomputeTop(topK);
+        }
+    }
+
+    private void recomputeSubtree(Node node) {
+        for (Node child : node.children) {
+            recomputeSubtree(child);
+        }
+        node.recomputeTop(topK);
+    }
+
+    private record Entry(
+            String id,
+            String name,
+            double weight,
+            Set<String> keys
+    ) {
+    }
+
+    private static final class Node {
+
+        private char[]  chars     = EMPTY_CHARS;
+        private Node[]  children  = EMPTY_NODES;
+        private Entry[] terminals = EMPTY_ENTRIES;
+        private Entry[] top       = EMPTY_ENTRIES;
+
+        Node child(char c) {
+            int index = Arrays.binarySearch(chars, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        Node getOrCreateChild(char c) {
+            int index = Arrays.binarySearch(chars, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            Node node = new Node();
+
+            char[] newChars = new char[chars.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(chars, 0, newChars, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newChars[insertAt] = c;
+            newChildren[insertAt] = node;
+            System.arraycopy(chars, insertAt, newChars, insertAt + 1, chars.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            chars = newChars;
+            children = newChildren;
+            return node;
+        }
+
+        void removeChild(char c) {
+            int index = Arrays.binarySearch(chars, c);
+            if (index < 0) {
+                return;
+            }
+            char[] newChars = new char[chars.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(chars, 0, newChars, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(chars, index + 1, newChars, index, chars.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            chars = newChars;
+            children = newChildren;
+        }
+
+        void addTerminal(Entry entry) {
+            Entry[] newTerminals = Arrays.copyOf(terminals, terminals.length + 1);
+            newTerminals[terminals.length] = entry;
+            terminals = newTerminals;
+        }
+
+        void removeTerminal(String id) {
+            terminals = Arrays.stream(terminals)
+                              .filter(entry -> !entry.id().equals(id))
+                              .toArray(Entry[]::new);
+        }
+
+        boolean isEmpty() {
+            return chars.length == 0 && terminals.length == 0;
+        }
+
+        void recomputeTop(int k) {
+            List<Entry> candidates = new ArrayList<>(terminals.length + children.length * k);
+            candidates.addAll(Arrays.asList(terminals));
+            for (Node child : children) {
+                candidates.addAll(Arrays.asList(child.top));
+            }
+            candidates.sort(BY_WEIGHT);
+
+            // 한 상품이 여러 키로 등록되므로 id 기준 중복 제거
+            List<Entry> selected = new ArrayList<>(k);
+            for (Entry candidate : candidates) {
+                if (selected.size() >= k) {
+                    break;
+                }
+                boolean duplicated = false;
+                for (Entry picked : selected) {
+                    if (picked.id().equals(candidate.id())) {
+                        duplicated = true;
+                        break;
+                    }
+                }
+                if (!duplicated) {
+                    selected.add(candidate);
+                }
+            }
+            top = selected.toArray(EMPTY_ENTRIES);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.ElasticCommerce.domain.product.service.autocomplete;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 자동완성용 정규화.
+ * 한글 음절을 호환 자모 단위로 풀어(복합 모음/겹받침 포함) 입력 중인 상태("삼ㅅ", "삿")도 "삼성", "사서"의 접두어가 되도록 하고,
+ * 영문은 소문자, 전각 문자는 반각으로 맞춥니다 (products_name_analyzer 의 lowercase 와 동일한 기준).
+ */
+final class HangulNormalizer {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+
+    private static final String[] CHOSEONG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ",
+            "ㅣ"
+    };
+    private static final String[] JONGSEONG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독으로 입력된 호환 자모 중 겹받침/복합 모음
+    private static final Map<Character, String> COMPOUND_JAMO = Map.ofEntries(
+            Map.entry('ㄳ', "ㄱㅅ"), Map.entry('ㄵ', "ㄴㅈ"), Map.entry('ㄶ', "ㄴㅎ"),
+            Map.entry('ㄺ', "ㄹㄱ"), Map.entry('ㄻ', "ㄹㅁ"), Map.entry('ㄼ', "ㄹㅂ"),
+            Map.entry('ㄽ', "ㄹㅅ"), Map.entry('ㄾ', "ㄹㅌ"), Map.entry('ㄿ', "ㄹㅍ"),
+            Map.entry('ㅀ', "ㄹㅎ"), Map.entry('ㅄ', "ㅂㅅ"),
+            Map.entry('ㅘ', "ㅗㅏ"), Map.entry('ㅙ', "ㅗㅐ"), Map.entry('ㅚ', "ㅗㅣ"),
+            Map.entry('ㅝ', "ㅜㅓ"), Map.entry('ㅞ', "ㅜㅔ"), Map.entry('ㅟ', "ㅜㅣ"),
+            Map.entry('ㅢ', "ㅡㅣ")
+    );
+
+    private HangulNormalizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String composed = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        StringBuilder sb = new StringBuilder(composed.length() * 3);
+        boolean pendingSpace = false;
+        for (int i = 0; i < composed.length(); i++) {
+            char c = composed.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = sb.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                sb.append(' ');
+                pendingSpace = false;
+            }
+            appendNormalized(sb, c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 상품명 하나에서 색인할 키 목록: 전체 이름, 공백 제거 이름, 각 단어로 시작하는 접미 문자열.
+     */
+    static Set<String> indexKeys(String name) {
+        String normalized = normalize(name);
+        Set<String> keys = new LinkedHashSet<>();
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(normalized);
+        keys.add(normalized.replace(" ", ""));
+        for (int i = 1; i < normalized.length(); i++) {
+            if (normalized.charAt(i - 1) == ' ') {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys;
+    }
+
+    private static void appendNormalized(StringBuilder sb, char c) {
+        if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+            int offset = c - SYLLABLE_BASE;
+            sb.append(CHOSEONG[offset / (21 * 28)])
+              .append(JUNGSEONG[(offset % (21 * 28)) / 28])
+              .append(JONGSEONG[offset % 28]);
+            return;
+        }
+        String compound = COMPOUND_JAMO.get(c);
+        if (compound != null) {
+            sb.append(compound);
+            return;
+        }
+        // 전각 영문/숫자/기호 → 반각
+        if (c >= 0xFF01 && c <= 0xFF5E) {
+            sb.append((char) (c - 0xFEE0));
+            return;
+        }
+        sb.append(c);
+    }
+}
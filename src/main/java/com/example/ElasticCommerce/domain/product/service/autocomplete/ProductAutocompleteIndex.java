@@ -0,0 +1,135 @@
+package com.example.ElasticCommerce.domain.product.service.autocomplete;
+
+import com.example.ElasticCommerce.domain.product.dto.event.ProductIndexChange;
+import com.example.ElasticCommerce.domain.product.dto.event.ProductIndexChangedEvent;
+import com.example.ElasticCommerce.domain.product.dto.response.ProductSuggestionRow;
+import com.example.ElasticCommerce.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명 자동완성용 인메모리 인덱스.
+ * 애플리케이션 기동 후 MySQL 에서 상품명/평점을 읽어 트라이를 만들고,
+ * 이후에는 색인 컨슈머가 전파하는 상품 변경으로 증분 갱신합니다.
+ * 인덱스가 준비되기 전에는 빈 결과를 돌려주고, 호출 측이 Elasticsearch 로 대체합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProductAutocompleteIndex {
+
+    private static final int TOP_K      = 10;
+    private static final int LOAD_CHUNK = 1000;
+
+    private final ProductRepository productRepository;
+
+    private final ReentrantReadWriteLock   lock     = new ReentrantReadWriteLock();
+    private final List<ProductIndexChange> pending  = new ArrayList<>();
+    private AutocompleteTrie               trie     = new AutocompleteTrie(TOP_K);
+    private boolean                        ready    = false;
+    private boolean                        building = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        Thread builder = new Thread(this::rebuild, "product-autocomplete-builder");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        setBuilding(true);
+
+        AutocompleteTrie loading = new AutocompleteTrie(TOP_K);
+        try {
+            long lastId = 0L;
+            List<ProductSuggestionRow> rows;
+            do {
+                rows = productRepository.findSuggestionRowsAfter(lastId, PageRequest.of(0, LOAD_CHUNK));
+                for (ProductSuggestionRow row : rows) {
+                    loading.load(String.valueOf(row.id()), row.name(), row.rating());
+                    lastId = row.id();
+                }
+            } while (rows.size() == LOAD_CHUNK);
+            loading.finishLoad();
+        } catch (RuntimeException e) {
+            log.error("[Autocomplete][BUILD] 인덱스 생성 실패, 기존 상태 유지", e);
+            setBuilding(false);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 생성 중 들어온 변경을 새 인덱스에 반영 후 교체
+            pending.forEach(change -> apply(loading, change));
+            pending.clear();
+            trie = loading;
+            ready = true;
+            building = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("[Autocomplete][BUILD] 인덱스 생성 완료: 상품={}건, 소요={}ms",
+                loading.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    public List<String> suggest(String query, int limit) {
+        String prefix = HangulNormalizer.normalize(query);
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return ready ? trie.search(prefix, limit) : List.of();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onProductIndexChanged(ProductIndexChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                // 생성 중이면 모아 두었다가 새 인덱스에 반영
+                pending.addAll(event.changes());
+            }
+            if (ready) {
+                event.changes().forEach(change -> apply(trie, change));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(AutocompleteTrie target, ProductIndexChange change) {
+        if (change.isDelete()) {
+            target.remove(change.id());
+        } else if (change.name() != null) {
+            target.put(change.id(), change.name(), change.rating() != null ? change.rating() : 0.0);
+        } else if (change.rating() != null) {
+            // 평점만 바뀐 부분 이벤트: 가중치만 갱신
+            target.updateWeight(change.id(), change.rating());
+        }
+    }
+
+    private void setBuilding(boolean value) {
+        lock.writeLock().lock();
+        try {
+            building = value;
+            if (!value) {
+                pending.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -1,40 +1,19 @@
 package com.example.ElasticCommerce.domain.product.service.kafka;
 
 import com.example.ElasticCommerce.domain.product.dto.kafka.ProductElasticDTO;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.ElasticCommerce.global.outbox.OutboxEventPublisher;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class KafkaProducerService {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxEventPublisher outboxEventPublisher;
 
+    // 상품 변경과 같은 트랜잭션에서 outbox 에 적재하고, 커밋 후 릴레이가 Kafka 로 발행
     public void sendProduct(String topic, ProductElasticDTO dto) {
-        String msg;
-        try {
-            msg = objectMapper.writeValueAsString(dto);
-        } catch (JsonProcessingException e) {
-            log.error("ProductElasticDTO 직렬화 실패", e);
-            return;
-        }
-
-        kafkaTemplate.send(topic, msg)
-                     .whenComplete((result, ex) -> {
-                         if (ex != null) {
-                             log.error("Kafka 전송 실패", ex);
-                         } else {
-                             RecordMetadata meta = result.getRecordMetadata();
-                             log.info("카프카 메시지 전송 성공 topic={} partition={} offset={}",
-                                     meta.topic(), meta.partition(), meta.offset());
-                         }
-                     });
+        // 상품 id 를 키로 사용해 같은 상품의 이벤트는 항상 같은 파티션에 순서대로 적재
+        outboxEventPublisher.publish(topic, dto.id(), dto);
     }
 }
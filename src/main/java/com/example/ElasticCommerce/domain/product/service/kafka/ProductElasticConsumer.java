@@ -1,68 +1,115 @@
 package com.example.ElasticCommerce.domain.product.service.kafka;
 
+import com.example.ElasticCommerce.domain.product.dto.event.ProductIndexChange;
 import com.example.ElasticCommerce.domain.product.dto.kafka.ProductElasticDTO;
-import com.example.ElasticCommerce.domain.product.entity.ProductDocument;
-import com.example.ElasticCommerce.domain.product.repository.ProductDocumentRepository;
+import com.example.ElasticCommerce.domain.product.repository.ProductDocumentBulkRepository;
+import com.example.ElasticCommerce.domain.product.repository.ProductDocumentBulkRepository.BulkFailure;
+import com.example.ElasticCommerce.domain.product.service.ProductIndexChangeBroadcaster;
+import com.example.ElasticCommerce.domain.product.service.kafka.ProductEventCoalescer.PendingEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class ProductElasticConsumer {
 
-    private final ProductDocumentRepository productDocumentRepository;
-    private final ObjectMapper              objectMapper;
+    private static final String DLT_TOPIC = "product-topic.DLT";
+
+    private final ProductDocumentBulkRepository productDocumentBulkRepository;
+    private final ProductEventCoalescer         productEventCoalescer;
+    private final ProductIndexChangeBroadcaster productIndexChangeBroadcaster;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper                  objectMapper;
 
+    /**
+     * poll 한 번에 받은 레코드를 상품 id 별로 병합한 뒤 하나의 _bulk 요청으로 색인합니다.
+     * 배치 크기는 max.poll.records, 플러시 간격은 fetch.max.wait.ms 로 조절합니다.
+     */
     @KafkaListener(
             topics           = "product-topic",
             groupId          = "${spring.kafka.consumer.group-id}",
-            containerFactory = "kafkaListenerContainerFactory",
-            concurrency      = "6"
+            containerFactory = "batchKafkaListenerContainerFactory",
+            concurrency      = "${product.indexing.concurrency}",
+            properties       = {
+                    "max.poll.records=${product.indexing.batch-size}",
+                    "fetch.max.wait.ms=${product.indexing.flush-interval-ms}",
+                    "fetch.min.bytes=${product.indexing.fetch-min-bytes}"
+            }
     )
-    public void consumeProduct(String message, Acknowledgment ack) {
-        ProductElasticDTO dto;
-        try {
-            dto = objectMapper.readValue(message, ProductElasticDTO.class);
-        } catch (JsonProcessingException e) {
-            log.error("[Elasticsearch][PARSE_ERROR] 메시지 파싱 오류: {}", message, e);
-            ack.acknowledge();
-            return;
+    public void consumeProducts(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        List<PendingEvent> received = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                received.add(new PendingEvent(record, objectMapper.readValue(record.value(), ProductElasticDTO.class)));
+            } catch (JsonProcessingException e) {
+                // 파싱 불가 메시지는 재시도 의미가 없으므로 건너뜀
+                log.error("[Elasticsearch][PARSE_ERROR] 메시지 파싱 오류: {}", record.value(), e);
+            }
         }
 
-        String id        = dto.id();
-        String eventType = dto.eventType();
+        // 같은 상품 id 는 최신 이벤트 하나만 색인
+        List<PendingEvent> events = productEventCoalescer.coalesce(received);
 
-        if ("DELETE".equals(eventType)) {
-            productDocumentRepository.deleteById(id);
-            log.info("[Elasticsearch][DELETE] 문서 삭제 완료: id={}", id);
+        List<BulkFailure> failures;
+        try {
+            failures = productDocumentBulkRepository.bulk(events.stream().map(PendingEvent::event).toList());
+        } catch (IOException e) {
+            // 요청 자체가 실패한 경우 배치 전체를 에러 핸들러(재시도 후 DLT)에 맡김
+            throw new UncheckedIOException(e);
+        }
 
-        } else {
-            // CREATE / UPDATE / OPEN / CLOSE / UPDATE_STOCK / UPDATE_RATING 등 모든 비-DELETE 이벤트: upsert
-            ProductDocument doc = ProductDocument.builder()
-                                                 .id(id)
-                                                 .productCode(dto.productCode())
-                                                 .name(dto.name())
-                                                 .description(dto.description())
-                                                 .price(dto.price())
-                                                 .category(dto.category())
-                                                 .stockQuantity(dto.stockQuantity())
-                                                 .brand(dto.brand())
-                                                 .imageUrl(dto.imageUrl())
-                                                 .available(dto.available())
-                                                 .rating(dto.rating())
-                                                 .build();
+        if (!failures.isEmpty()) {
+            sendToDlt(events, failures);
+        }
 
-            productDocumentRepository.save(doc);
-            log.info("[Elasticsearch][UPSERT][{}] 처리 완료: id={}", eventType, id);
+        // 반영에 성공한 변경만 모든 노드의 로컬 캐시에 전파
+        Set<Integer> failedIndexes = failures.stream().map(BulkFailure::index).collect(Collectors.toSet());
+        List<ProductIndexChange> changes = new ArrayList<>(events.size());
+        for (int i = 0; i < events.size(); i++) {
+            if (!failedIndexes.contains(i)) {
+                changes.add(ProductIndexChange.from(events.get(i).event()));
+            }
         }
+        productIndexChangeBroadcaster.broadcast(changes);
 
         ack.acknowledge();
-        log.info("[Elasticsearch] 오프셋 커밋: {}", id);
+        log.info("[Elasticsearch][BULK] 색인 완료: 수신={}건, 병합 후={}건, 실패={}건, 오프셋 커밋",
+                records.size(), events.size(), failures.size());
+    }
+
+    private void sendToDlt(List<PendingEvent> events, List<BulkFailure> failures) {
+        List<CompletableFuture<?>> futures = new ArrayList<>(failures.size());
+        for (BulkFailure failure : failures) {
+            PendingEvent failed = events.get(failure.index());
+            log.warn("[Elasticsearch][BULK_ITEM_FAIL] id={}, reason={} → DLT 전송", failure.id(), failure.reason());
+            // 병합된 이벤트일 수 있으므로 원본 메시지가 아닌 실제 색인하려던 이벤트를 전송
+            futures.add(kafkaTemplate.send(DLT_TOPIC, failed.source().partition(), failed.source().key(), serialize(failed)));
+        }
+        // DLT 전송이 확인된 뒤에만 오프셋을 커밋 (실패 시 예외 → 배치 재시도)
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private String serialize(PendingEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.event());
+        } catch (JsonProcessingException e) {
+            return event.source().value();
+        }
     }
 }
@@ -2,9 +2,9 @@ package com.example.ElasticCommerce.domain.product.service.kafka;
 
 import com.example.ElasticCommerce.domain.product.dto.kafka.ProductElasticDTO;
 import com.example.ElasticCommerce.domain.product.entity.FailedEvent;
-import com.example.ElasticCommerce.domain.product.entity.ProductDocument;
 import com.example.ElasticCommerce.domain.product.repository.FailedEventRepository;
-import com.example.ElasticCommerce.domain.product.repository.ProductDocumentRepository;
+import com.example.ElasticCommerce.domain.product.repository.ProductDocumentBulkRepository;
+import com.example.ElasticCommerce.domain.product.repository.ProductDocumentBulkRepository.BulkFailure;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -14,12 +14,14 @@ import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class ProductElasticDltConsumer {
 
-    private final ProductDocumentRepository productDocumentRepository;
+    private final ProductDocumentBulkRepository productDocumentBulkRepository;
     private final FailedEventRepository failedEventRepository;
     private final ObjectMapper objectMapper;
 
@@ -53,20 +55,12 @@ public class ProductElasticDltConsumer {
             return;
         }
 
-        // 2) Elasticsearch 저장 재시도
+        // 2) Elasticsearch 반영 재시도 (삭제 / 부분 업데이트 / 전체 upsert)
         try {
-            ProductDocument doc = ProductDocument.builder()
-                                                 .id(dto.id())
-                                                 .productCode(dto.productCode())
-                                                 .name(dto.name())
-                                                 .description(dto.description())
-                                                 .price(dto.price())
-                                                 .category(dto.category())
-                                                 .stockQuantity(dto.stockQuantity())
-                                                 .brand(dto.brand())
-                                                 .imageUrl(dto.imageUrl())
-                                                 .build();
-            productDocumentRepository.save(doc);
+            List<BulkFailure> failures = productDocumentBulkRepository.bulk(List.of(dto));
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException(failures.get(0).reason());
+            }
 
             // 재처리 성공: 오프셋 커밋
             ack.acknowledge();
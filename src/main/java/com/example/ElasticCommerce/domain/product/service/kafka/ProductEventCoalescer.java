@@ -0,0 +1,53 @@
+package com.example.ElasticCommerce.domain.product.service.kafka;
+
+import com.example.ElasticCommerce.domain.product.dto.kafka.ProductElasticDTO;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치(poll) 안에서 같은 상품 id 의 이벤트를 하나로 합칩니다.
+ * 전체 스냅샷 이벤트는 이전 이벤트를 대체하고, 부분 이벤트(재고/평점/판매상태)는 이전 이벤트 위에 필드를 덮어씁니다.
+ * DELETE 는 이전/이후 이벤트보다 우선합니다 (상품 id 는 재사용되지 않음).
+ * product-topic 은 상품 id 로 키가 지정되어 같은 id 의 이벤트는 한 파티션에 오프셋 순으로 들어오므로,
+ * 배치 안에서 나중에 온 이벤트가 최신입니다.
+ * 윈도 크기와 시간은 리스너의 max.poll.records / fetch.max.wait.ms 로 제한됩니다.
+ */
+@Component
+public class ProductEventCoalescer {
+
+    public List<PendingEvent> coalesce(List<PendingEvent> events) {
+        Map<String, PendingEvent> latest = new LinkedHashMap<>();
+        for (PendingEvent event : events) {
+            latest.merge(event.id(), event, this::newer);
+        }
+        return new ArrayList<>(latest.values());
+    }
+
+    private PendingEvent newer(PendingEvent current, PendingEvent candidate) {
+        if (current.isDelete()) {
+            return current;
+        }
+        if (candidate.isDelete() || !candidate.event().isPartial()) {
+            return candidate;
+        }
+        return new PendingEvent(candidate.source(), current.event().overlay(candidate.event()));
+    }
+
+    public record PendingEvent(
+            ConsumerRecord<String, String> source,
+            ProductElasticDTO event
+    ) {
+        public String id() {
+            return event.id();
+        }
+
+        public boolean isDelete() {
+            return event.isDelete();
+        }
+    }
+}
@@ -7,37 +7,61 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ProductRatingConsumer {
 
+    // 기존 상품 평점 합계/수 적재(ProductRatingBackfill)가 끝난 뒤에 시작
+    public static final String LISTENER_ID = "product-rating-consumer";
+
     private final ProductService productService;
     private final ObjectMapper objectMapper;
 
+    /**
+     * 한 창(window) 동안 모인 평점 증분을 상품 id 별로 합쳐, 상품마다 한 번만 갱신하고 한 번만 색인 이벤트를 보냅니다.
+     * 창 길이는 fetch.max.wait.ms, 창당 최대 레코드 수는 max.poll.records 로 조절합니다.
+     */
     @KafkaListener(
+            id               = LISTENER_ID,
+            autoStartup      = "false",
             topics           = "review-rating-topic",
             groupId          = "review-rating-group",
-            containerFactory = "kafkaListenerContainerFactory",
-            concurrency      = "3"
+            containerFactory = "batchKafkaListenerContainerFactory",
+            concurrency      = "3",
+            properties       = {
+                    "max.poll.records=${product.rating.batch-size}",
+                    "fetch.max.wait.ms=${product.rating.window-ms}",
+                    "fetch.min.bytes=${product.rating.fetch-min-bytes}"
+            }
     )
-    public void consumeRatingEvent(String message, Acknowledgment ack) {
-        ProductRatingKafkaDTO productRatingKafkaDTO;
-        try {
-            productRatingKafkaDTO = objectMapper.readValue(message, ProductRatingKafkaDTO.class);
-        } catch (JsonProcessingException e) {
-            log.error("[ProductRating][PARSE_ERROR] 메시지 파싱 오류: {}", message, e);
-            ack.acknowledge();
-            return;
+    public void consumeRatingEvents(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        // 상품 id 순으로 갱신해 다른 컨슈머/보정 작업과 행 잠금 순서를 맞춤
+        Map<Long, ProductRatingKafkaDTO> deltas = new TreeMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            ProductRatingKafkaDTO productRatingKafkaDTO;
+            try {
+                productRatingKafkaDTO = objectMapper.readValue(record.value(), ProductRatingKafkaDTO.class);
+            } catch (JsonProcessingException e) {
+                log.error("[ProductRating][PARSE_ERROR] 메시지 파싱 오류: {}", record.value(), e);
+                continue;
+            }
+            deltas.merge(productRatingKafkaDTO.productId(), productRatingKafkaDTO, ProductRatingKafkaDTO::plus);
         }
 
-        Long productId = productRatingKafkaDTO.productId();
-        productService.updateAverageRating(productId);
-        log.info("[상품평점갱신완료] 상품ID={} 평점 재계산 및 동기화 트리거 완료", productId);
+        if (!deltas.isEmpty()) {
+            productService.applyRatingDeltas(deltas.values());
+        }
+        log.info("[상품평점갱신완료] 메시지={}건, 상품={}건 평점 증분 반영 완료", records.size(), deltas.size());
 
         ack.acknowledge();
     }
@@ -1,15 +1,20 @@
 package com.example.ElasticCommerce.domain.review.controller;
 
+import com.example.ElasticCommerce.domain.review.dto.request.ReviewSort;
 import com.example.ElasticCommerce.domain.review.dto.response.ReviewDetailResponse;
 import com.example.ElasticCommerce.domain.review.dto.response.ReviewResponse;
+import com.example.ElasticCommerce.domain.review.dto.response.ReviewStatsResponse;
 import com.example.ElasticCommerce.domain.review.dto.request.CreateReviewRequest;
 import com.example.ElasticCommerce.domain.review.dto.request.UpdateReviewRequest;
 import com.example.ElasticCommerce.domain.review.service.ReviewService;
+import com.example.ElasticCommerce.domain.review.service.ReviewStatsService;
+import com.example.ElasticCommerce.global.common.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.util.List;
 
 @RestController
@@ -17,6 +22,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReviewController {
     private final ReviewService reviewService;
+    private final ReviewStatsService reviewStatsService;
 
     @PostMapping
     public ResponseEntity<ReviewResponse> createReview(@Valid @RequestBody CreateReviewRequest request) {
@@ -31,11 +37,37 @@ public class ReviewController {
     }
 
     @GetMapping
-    public ResponseEntity<List<ReviewDetailResponse>> getReviewsByProduct(@RequestParam Long productId) {
-        List<ReviewDetailResponse> reviewDetailResponses = reviewService.getReviewsByProduct(productId);
+    public ResponseEntity<CursorPage<ReviewDetailResponse>> getReviewsByProduct(
+            @RequestParam Long productId,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(defaultValue = "LATEST") ReviewSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<ReviewDetailResponse> reviewDetailResponses = reviewService.getReviewsByProduct(productId, minRating, sort, cursor, size);
         return ResponseEntity.ok(reviewDetailResponses);
     }
 
+    // 상품의 전체 리뷰를 NDJSON 으로 스트리밍 (응답 전체를 메모리에 만들지 않음)
+    // 스트리밍이 시작되면 상태 코드를 바꿀 수 없으므로 상품 확인은 본문을 만들기 전에 수행
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportReviewsByProduct(@RequestParam Long productId) {
+        reviewService.checkExportable(productId);
+        StreamingResponseBody body = out -> reviewService.exportReviewsByProduct(productId, out);
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/stats/{productId}")
+    public ResponseEntity<ReviewStatsResponse> getReviewStats(@PathVariable Long productId) {
+        return ResponseEntity.ok(reviewStatsService.getStats(productId));
+    }
+
+    // 목록 화면용 일괄 조회: /api/reviews/stats?productIds=1,2,3
+    @GetMapping("/stats")
+    public ResponseEntity<List<ReviewStatsResponse>> getReviewStatsBatch(@RequestParam List<Long> productIds) {
+        return ResponseEntity.ok(reviewStatsService.getStats(productIds));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ReviewResponse> updateReview(@PathVariable Long id, @Valid @RequestBody UpdateReviewRequest request) {
         ReviewResponse updateReview = reviewService.updateReview(id, request);
@@ -1,6 +1,63 @@
 package com.example.ElasticCommerce.domain.review.dto.kafka;
 
+import com.example.ElasticCommerce.domain.review.entity.Review;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 리뷰 변경으로 생긴 상품 평점 합계/리뷰 수/별점별 리뷰 수 증분.
+ * 컨슈머는 이 값을 상품의 합계/수에 더하기만 하므로, 리뷰가 많은 상품도 평점 갱신 비용이 일정합니다.
+ * reviewDate 는 리뷰 작성일(최근 추이 집계 기준), occurredAt 은 변경 시각(epoch ms, 리뷰 통계 적재 시점과 비교)입니다.
+ */
 public record ProductRatingKafkaDTO(
-        Long productId
+        Long productId,
+        double sumDelta,
+        long countDelta,
+        Map<Integer, Long> starDeltas,
+        LocalDate reviewDate,
+        long occurredAt
 ) {
+    public static ProductRatingKafkaDTO created(Review review, long occurredAt) {
+        double rating = review.getRating();
+        return new ProductRatingKafkaDTO(
+                review.getProductId(), rating, 1L, Map.of(Review.starOf(rating), 1L), reviewDateOf(review), occurredAt
+        );
+    }
+
+    public static ProductRatingKafkaDTO changed(Review review, double previousRating, long occurredAt) {
+        double currentRating = review.getRating();
+        Map<Integer, Long> starDeltas = new HashMap<>();
+        starDeltas.merge(Review.starOf(previousRating), -1L, Long::sum);
+        starDeltas.merge(Review.starOf(currentRating), 1L, Long::sum);
+        return new ProductRatingKafkaDTO(
+                review.getProductId(), currentRating - previousRating, 0L, starDeltas, reviewDateOf(review), occurredAt
+        );
+    }
+
+    public static ProductRatingKafkaDTO deleted(Review review, long occurredAt) {
+        double rating = review.getRating();
+        return new ProductRatingKafkaDTO(
+                review.getProductId(), -rating, -1L, Map.of(Review.starOf(rating), -1L), reviewDateOf(review), occurredAt
+        );
+    }
+
+    // 같은 상품의 증분을 하나로 합침 (합계/수만 의미가 있으며 날짜와 시각은 나중 증분의 값을 따름)
+    public ProductRatingKafkaDTO plus(ProductRatingKafkaDTO other) {
+        Map<Integer, Long> merged = new HashMap<>(starDeltasOrEmpty());
+        other.starDeltasOrEmpty().forEach((star, delta) -> merged.merge(star, delta, Long::sum));
+        return new ProductRatingKafkaDTO(
+                productId, sumDelta + other.sumDelta, countDelta + other.countDelta, merged, other.reviewDate, other.occurredAt
+        );
+    }
+
+    // 별점 증분이 없던 이전 형식 메시지 호환
+    public Map<Integer, Long> starDeltasOrEmpty() {
+        return starDeltas != null ? starDeltas : Map.of();
+    }
+
+    private static LocalDate reviewDateOf(Review review) {
+        return review.getCreatedAt() != null ? review.getCreatedAt().toLocalDate() : null;
+    }
 }
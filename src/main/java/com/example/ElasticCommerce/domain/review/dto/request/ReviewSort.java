@@ -0,0 +1,10 @@
+package com.example.ElasticCommerce.domain.review.dto.request;
+
+/**
+ * 상품별 리뷰 목록 정렬. 동점은 id 로 정렬해 키셋 커서가 항상 한 행을 가리키도록 합니다.
+ */
+public enum ReviewSort {
+    LATEST,
+    RATING_HIGH,
+    RATING_LOW
+}
@@ -0,0 +1,14 @@
+package com.example.ElasticCommerce.domain.review.dto.response;
+
+/**
+ * 상품별 리뷰 평점 합계/수 (reviews 테이블 기준 정답값).
+ */
+public record ProductRatingAggregate(
+        Long productId,
+        Double ratingSum,
+        Long ratingCount
+) {
+    public static ProductRatingAggregate empty(Long productId) {
+        return new ProductRatingAggregate(productId, 0.0, 0L);
+    }
+}
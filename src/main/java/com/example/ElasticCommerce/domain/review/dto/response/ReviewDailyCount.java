@@ -0,0 +1,14 @@
+package com.example.ElasticCommerce.domain.review.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * 상품별/작성일별 리뷰 수와 평점 합계 (reviews 테이블 집계, 리뷰 통계 최근 추이 적재용).
+ */
+public record ReviewDailyCount(
+        Long productId,
+        LocalDate day,
+        Long reviewCount,
+        Double ratingSum
+) {
+}
@@ -2,8 +2,11 @@ package com.example.ElasticCommerce.domain.review.dto.response;
 
 import com.example.ElasticCommerce.domain.product.entity.Product;
 import com.example.ElasticCommerce.domain.review.entity.Review;
+import com.example.ElasticCommerce.domain.review.entity.ReviewDocument;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 public record ReviewDetailResponse(
         Long id,
@@ -31,4 +34,23 @@ public record ReviewDetailResponse(
                 review.getModifiedAt()
         );
     }
+
+    public static ReviewDetailResponse from(ReviewDocument doc) {
+        return new ReviewDetailResponse(
+                Long.valueOf(doc.getReviewId()),
+                doc.getProductCode(),
+                doc.getProductName(),
+                doc.getProductCategory(),
+                doc.getUserName(),
+                doc.getTitle(),
+                doc.getRating(),
+                doc.getComment(),
+                toLocalDateTime(doc.getCreatedAt()),
+                toLocalDateTime(doc.getModifiedAt())
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return instant != null ? LocalDateTime.ofInstant(instant, ZoneId.of("Asia/Seoul")) : null;
+    }
 }
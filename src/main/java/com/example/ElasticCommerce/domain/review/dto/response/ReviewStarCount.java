@@ -0,0 +1,12 @@
+package com.example.ElasticCommerce.domain.review.dto.response;
+
+/**
+ * 상품별/별점 구간별 리뷰 수와 평점 합계 (reviews 테이블 집계, 리뷰 통계 적재용).
+ */
+public record ReviewStarCount(
+        Long productId,
+        Double star,
+        Long reviewCount,
+        Double ratingSum
+) {
+}
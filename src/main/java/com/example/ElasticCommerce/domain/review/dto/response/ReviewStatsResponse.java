@@ -0,0 +1,28 @@
+package com.example.ElasticCommerce.domain.review.dto.response;
+
+import com.example.ElasticCommerce.domain.review.repository.ReviewStatsCounters;
+
+import java.util.Map;
+
+/**
+ * 상품 리뷰 통계: 리뷰 수, 평균 평점, 별점별 리뷰 수(5→1), 최근 기간에 작성된 리뷰 수와 그 평균 평점.
+ */
+public record ReviewStatsResponse(
+        Long productId,
+        long reviewCount,
+        double averageRating,
+        Map<Integer, Long> histogram,
+        long recentReviewCount,
+        double recentAverageRating
+) {
+    public static ReviewStatsResponse of(Long productId, ReviewStatsCounters total, ReviewStatsCounters recent) {
+        return new ReviewStatsResponse(
+                productId,
+                total.reviewCount(),
+                total.average(),
+                total.histogram(),
+                recent.reviewCount(),
+                recent.average()
+        );
+    }
+}
@@ -5,7 +5,11 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reviews")
+@Table(
+        name = "reviews",
+        // 상품별 리뷰 내보내기: 상품의 리뷰를 (createdAt, id) 순으로 인덱스만 따라 읽음
+        indexes = @Index(name = "idx_reviews_product_created", columnList = "productId, createdAt, id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Review {
@@ -52,6 +56,11 @@ public class Review {
         this.modifiedAt = modifiedAt;
     }
 
+    // 별점 분포 구간: 평점의 정수 부분 (1~5)
+    public static int starOf(double rating) {
+        return (int) Math.max(1, Math.min(5, Math.floor(rating)));
+    }
+
     public void update(String title, double rating, String comment) {
         this.title = title;
         this.rating = rating;
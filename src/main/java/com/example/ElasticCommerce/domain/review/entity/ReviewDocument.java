@@ -21,6 +21,19 @@ public class ReviewDocument {
     @Field(type = FieldType.Keyword)
     private String userId;
 
+    // 목록 조회를 색인만으로 처리하도록 색인 시점에 비정규화한 사용자/상품 정보
+    @Field(type = FieldType.Keyword)
+    private String userName;
+
+    @Field(type = FieldType.Keyword)
+    private String productCode;
+
+    @Field(type = FieldType.Keyword)
+    private String productName;
+
+    @Field(type = FieldType.Keyword)
+    private String productCategory;
+
     @Field(type = FieldType.Text, analyzer = "review_title_analyzer")
     private String title;
 
@@ -41,6 +54,10 @@ public class ReviewDocument {
             String reviewId,
             String productId,
             String userId,
+            String userName,
+            String productCode,
+            String productName,
+            String productCategory,
             String title,
             double rating,
             String comment,
@@ -50,6 +67,10 @@ public class ReviewDocument {
         this.reviewId = reviewId;
         this.productId = productId;
         this.userId = userId;
+        this.userName = userName;
+        this.productCode = productCode;
+        this.productName = productName;
+        this.productCategory = productCategory;
         this.title = title;
         this.rating = rating;
         this.comment = comment;
@@ -12,7 +12,10 @@ public enum ReviewExceptionType implements ExceptionType {
     INVALID_RATING            (3002, "평점은 1 이상 5 이하의 값이어야 합니다."),
     REVIEW_CREATION_FAILED    (3003, "리뷰 등록에 실패했습니다."),
     REVIEW_UPDATE_FAILED      (3004, "리뷰 수정에 실패했습니다."),
-    REVIEW_DELETE_FAILED      (3005, "리뷰 삭제에 실패했습니다.");
+    REVIEW_DELETE_FAILED      (3005, "리뷰 삭제에 실패했습니다."),
+    INVALID_CURSOR            (3006, "유효하지 않은 페이지 커서입니다."),
+    TOO_MANY_PRODUCTS         (3007, "한 번에 조회할 수 있는 상품 수를 초과했습니다."),
+    INVALID_PAGE_SIZE         (3008, "페이지 크기가 허용 범위를 벗어났습니다.");
 
     private final int statusCode;
     private final String message;
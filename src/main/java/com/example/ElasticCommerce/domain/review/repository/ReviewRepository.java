@@ -1,16 +1,40 @@
 package com.example.ElasticCommerce.domain.review.repository;
 
+import com.example.ElasticCommerce.domain.review.dto.response.ProductRatingAggregate;
+import com.example.ElasticCommerce.domain.review.dto.response.ReviewDailyCount;
+import com.example.ElasticCommerce.domain.review.dto.response.ReviewStarCount;
 import com.example.ElasticCommerce.domain.review.entity.Review;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    List<Review> findByProductId(Long productId);
+    // 내보내기용: 결과를 한 번에 올리지 않고 fetch size 단위로 읽음 (MySQL 은 useCursorFetch=true 필요)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT r FROM Review r WHERE r.productId = :productId ORDER BY r.createdAt ASC, r.id ASC")
+    Stream<Review> streamByProductId(@Param("productId") Long productId);
 
-    @Query("SELECT COALESCE(AVG(r.rating), 0) FROM Review r WHERE r.productId = :productId")
-    Double findAverageRatingByProductId(@Param("productId") Long productId);
+    // 평점 보정 작업용: 상품 묶음의 리뷰 합계/수를 한 번에 집계 (리뷰가 없는 상품은 결과에 없음)
+    @Query("SELECT new com.example.ElasticCommerce.domain.review.dto.response.ProductRatingAggregate(r.productId, SUM(r.rating), COUNT(r)) "
+            + "FROM Review r WHERE r.productId IN :productIds GROUP BY r.productId")
+    List<ProductRatingAggregate> aggregateRatingsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 리뷰 통계 적재용: 상품 묶음의 별점 구간(평점 정수 부분)별 리뷰 수/합계 (Review.starOf 와 같은 구간)
+    @Query("SELECT new com.example.ElasticCommerce.domain.review.dto.response.ReviewStarCount(r.productId, FLOOR(r.rating), COUNT(r), SUM(r.rating)) "
+            + "FROM Review r WHERE r.productId IN :productIds GROUP BY r.productId, FLOOR(r.rating)")
+    List<ReviewStarCount> countStarsByProductIdIn(@Param("productIds") Collection<Long> productIds);
+
+    // 리뷰 통계 최근 추이 적재용: 상품 묶음의 from 이후 작성일별 리뷰 수/합계 (productId, createdAt 인덱스 범위만 읽음)
+    @Query("SELECT new com.example.ElasticCommerce.domain.review.dto.response.ReviewDailyCount(r.productId, CAST(r.createdAt AS LocalDate), COUNT(r), SUM(r.rating)) "
+            + "FROM Review r WHERE r.productId IN :productIds AND r.createdAt >= :from GROUP BY r.productId, CAST(r.createdAt AS LocalDate)")
+    List<ReviewDailyCount> countDailyByProductIdIn(@Param("productIds") Collection<Long> productIds, @Param("from") LocalDateTime from);
 }
@@ -0,0 +1,95 @@
+package com.example.ElasticCommerce.domain.review.repository;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Redis 해시에 저장하는 상품 리뷰 통계 카운터 (평점 합계, 리뷰 수, 별점별 리뷰 수).
+ * 같은 해시에 작성일별 합계/리뷰 수(d:{yyyyMMdd}:sum, d:{yyyyMMdd}:count)도 함께 둡니다.
+ */
+public record ReviewStatsCounters(
+        double ratingSum,
+        long reviewCount,
+        Map<Integer, Long> histogram
+) {
+    static final String SUM   = "sum";
+    static final String COUNT = "count";
+    static final String STAR  = "star:";
+    static final String DAY   = "d:";
+
+    static final String SEEDED_AT = "seededAt";
+    static final String SEEDING   = "seeding";
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    public static ReviewStatsCounters empty() {
+        return new ReviewStatsCounters(0.0, 0L, emptyHistogram());
+    }
+
+    static ReviewStatsCounters fromHash(Map<?, ?> hash) {
+        Map<Integer, Long> histogram = emptyHistogram();
+        histogram.replaceAll((star, count) -> parseLong(hash.get(STAR + star)));
+        return new ReviewStatsCounters(parseDouble(hash.get(SUM)), parseLong(hash.get(COUNT)), histogram);
+    }
+
+    // 작성일별 필드에서 그날의 합계/리뷰 수만 읽음 (별점 분포는 비어 있음)
+    static ReviewStatsCounters fromDailyHash(Map<?, ?> hash, LocalDate day) {
+        return new ReviewStatsCounters(
+                parseDouble(hash.get(dayField(day, SUM))),
+                parseLong(hash.get(dayField(day, COUNT))),
+                emptyHistogram()
+        );
+    }
+
+    static String dayOf(LocalDate day) {
+        return DAY_FORMAT.format(day);
+    }
+
+    static String dayField(LocalDate day, String field) {
+        return DAY + dayOf(day) + ":" + field;
+    }
+
+    Map<String, String> toDailyHash(LocalDate day) {
+        Map<String, String> hash = new LinkedHashMap<>();
+        hash.put(dayField(day, SUM), String.valueOf(ratingSum));
+        hash.put(dayField(day, COUNT), String.valueOf(reviewCount));
+        return hash;
+    }
+
+    Map<String, String> toHash() {
+        Map<String, String> hash = new LinkedHashMap<>();
+        hash.put(SUM, String.valueOf(ratingSum));
+        hash.put(COUNT, String.valueOf(reviewCount));
+        histogram.forEach((star, count) -> hash.put(STAR + star, String.valueOf(count)));
+        return hash;
+    }
+
+    public ReviewStatsCounters plus(ReviewStatsCounters other) {
+        Map<Integer, Long> merged = new LinkedHashMap<>(histogram);
+        other.histogram.forEach((star, count) -> merged.merge(star, count, Long::sum));
+        return new ReviewStatsCounters(ratingSum + other.ratingSum, reviewCount + other.reviewCount, merged);
+    }
+
+    public double average() {
+        return reviewCount > 0 ? ratingSum / reviewCount : 0.0;
+    }
+
+    // 5점부터 1점 순서로 모든 별점을 0 으로 채운 분포
+    private static Map<Integer, Long> emptyHistogram() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int star = 5; star >= 1; star--) {
+            histogram.put(star, 0L);
+        }
+        return histogram;
+    }
+
+    private static long parseLong(Object value) {
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private static double parseDouble(Object value) {
+        return value != null ? Double.parseDouble(value.toString()) : 0.0;
+    }
+}
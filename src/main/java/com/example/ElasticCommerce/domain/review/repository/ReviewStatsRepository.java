@@ -0,0 +1,200 @@
+package com.example.ElasticCommerce.domain.review.repository;
+
+import com.example.ElasticCommerce.domain.review.dto.kafka.ProductRatingKafkaDTO;
+import com.example.ElasticCommerce.global.redis.RedisKeyspaceMaintenance;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상품별 리뷰 통계를 Redis 해시로 관리합니다.
+ *
+ * review-stats:{productId} 누적 합계/리뷰 수/별점별 리뷰 수와 최근 작성일별 합계/리뷰 수, 적재 시각(seededAt)
+ *
+ * 해시가 없으면 조회 시 DB 집계로 적재하고 TTL 이 지나면 다시 적재합니다.
+ * 적재 시각을 DB 집계 전에 기록하고 그보다 먼저 일어난 증분은 건너뛰므로, 적재 전후로 소비된 증분이 두 번 세어지지 않습니다.
+ * 남는 오차는 적재 시각 전후 몇 ms 안에 커밋된 변경과 노드 간 시계 차이에 한정되며 다음 적재에서 사라집니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReviewStatsRepository {
+
+    // 파이프라인 안에서는 NOSCRIPT 재시도를 할 수 없으므로 EVAL 로 스크립트 본문을 함께 보냄
+    private static final RedisScript<Long> APPLY_SCRIPT        =
+            RedisScript.of(new ClassPathResource("redis/review-stats-apply.lua"), Long.class);
+    private static final RedisScript<Long> SEED_RESERVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/review-stats-seed-reserve.lua"), Long.class);
+    private static final RedisScript<Long> SEED_SCRIPT         =
+            RedisScript.of(new ClassPathResource("redis/review-stats-seed.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisKeyspaceMaintenance      keyspaceMaintenance;
+
+    private String statsKey(Long productId) {
+        return "review-stats:" + productId;
+    }
+
+    /**
+     * 상품별 증분을 상품당 스크립트 한 번씩 파이프라인으로 반영합니다.
+     * 증분마다 적재 시각과 비교해야 하므로 합치지 않고 순서대로 넘깁니다.
+     *
+     * @param eventsByProduct 상품별 증분 (발생 순서)
+     * @param trendStart      최근 추이 기간의 첫날. 이보다 먼저 작성된 리뷰의 증분은 누적 통계에만 반영
+     */
+    public void applyDeltas(Map<Long, List<ProductRatingKafkaDTO>> eventsByProduct, LocalDate trendStart) {
+        byte[] script = APPLY_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        keyspaceMaintenance.pipelineInBatches(
+                "review-stats apply",
+                eventsByProduct.entrySet(),
+                RedisKeyspaceMaintenance.DEFAULT_BATCH_SIZE,
+                (connection, events) -> {
+                    List<String> keysAndArgs = new ArrayList<>();
+                    keysAndArgs.add(statsKey(events.getKey()));
+                    for (ProductRatingKafkaDTO event : events.getValue()) {
+                        LocalDate reviewDate = event.reviewDate();
+                        boolean inTrend = reviewDate != null && !reviewDate.isBefore(trendStart);
+                        keysAndArgs.add(String.valueOf(event.occurredAt()));
+                        keysAndArgs.add(String.valueOf(event.sumDelta()));
+                        keysAndArgs.add(String.valueOf(event.countDelta()));
+                        keysAndArgs.add(inTrend ? ReviewStatsCounters.dayOf(reviewDate) : "");
+                        for (int star = 5; star >= 1; star--) {
+                            keysAndArgs.add(String.valueOf(event.starDeltasOrEmpty().getOrDefault(star, 0L)));
+                        }
+                    }
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, toBytes(keysAndArgs));
+                },
+                RedisKeyspaceMaintenance.ProgressListener.NONE
+        );
+    }
+
+    /**
+     * 누적 통계와 최근 작성일별 합계를 파이프라인 한 번으로 읽습니다.
+     *
+     * @param productIds 조회할 상품 id
+     * @param days       최근 추이에 포함할 날짜
+     * @return 상품 id → 통계. 적재 전이거나 적재 중인 상품은 total 이 null
+     */
+    public Map<Long, ReviewStatsSnapshot> findStats(List<Long> productIds, List<LocalDate> days) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long productId : productIds) {
+                connection.hashCommands().hGetAll(bytes(statsKey(productId)));
+            }
+            return null;
+        }, StringRedisSerializer.UTF_8);
+
+        Map<Long, ReviewStatsSnapshot> stats = new HashMap<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            Map<?, ?> hash = (Map<?, ?>) results.get(i);
+            boolean seeded = hash != null
+                    && hash.containsKey(ReviewStatsCounters.SEEDED_AT)
+                    && !hash.containsKey(ReviewStatsCounters.SEEDING);
+            if (!seeded) {
+                stats.put(productIds.get(i), new ReviewStatsSnapshot(null, null));
+                continue;
+            }
+            ReviewStatsCounters recent = ReviewStatsCounters.empty();
+            for (LocalDate day : days) {
+                recent = recent.plus(ReviewStatsCounters.fromDailyHash(hash, day));
+            }
+            stats.put(productIds.get(i), new ReviewStatsSnapshot(ReviewStatsCounters.fromHash(hash), recent));
+        }
+        return stats;
+    }
+
+    /**
+     * 적재를 시작합니다. DB 집계 전에 호출해야 하며, 이미 적재된 상품은 건너뜁니다.
+     *
+     * @param productIds 적재할 상품 id
+     * @param token      적재 토큰 (완료 시 같은 값으로 호출한 적재만 반영)
+     * @param seededAt   적재 시각 (epoch ms). 이 시각 이후의 증분만 반영됨
+     * @param timeout    적재 제한 시간. 완료되지 않으면 해시가 만료되어 다음 조회에서 다시 적재
+     */
+    public void reserveSeed(Collection<Long> productIds, String token, long seededAt, Duration timeout) {
+        byte[] script = SEED_RESERVE_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        keyspaceMaintenance.pipelineInBatches(
+                "review-stats seed reserve",
+                productIds,
+                RedisKeyspaceMaintenance.DEFAULT_BATCH_SIZE,
+                (connection, productId) -> connection.scriptingCommands().eval(
+                        script, ReturnType.INTEGER, 1,
+                        toBytes(List.of(statsKey(productId), token, String.valueOf(seededAt), String.valueOf(timeout.toMillis())))
+                ),
+                RedisKeyspaceMaintenance.ProgressListener.NONE
+        );
+    }
+
+    /**
+     * DB 에서 집계한 통계를 적재 시작 후 반영된 증분 위에 더하고 적재를 마칩니다.
+     * 같은 토큰으로 시작한 적재만 반영하므로 다른 노드가 먼저 적재한 상품은 건너뜁니다.
+     */
+    public void completeSeed(Map<Long, ReviewStatsSeed> seeds, String token, Duration ttl) {
+        byte[] script = SEED_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        keyspaceMaintenance.pipelineInBatches(
+                "review-stats seed",
+                seeds.entrySet(),
+                RedisKeyspaceMaintenance.DEFAULT_BATCH_SIZE,
+                (connection, seed) -> {
+                    List<String> keysAndArgs = new ArrayList<>();
+                    keysAndArgs.add(statsKey(seed.getKey()));
+                    keysAndArgs.add(token);
+                    keysAndArgs.add(String.valueOf(ttl.toSeconds()));
+                    seed.getValue().toHash().forEach((field, value) -> {
+                        keysAndArgs.add(field);
+                        keysAndArgs.add(value);
+                    });
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1, toBytes(keysAndArgs));
+                },
+                RedisKeyspaceMaintenance.ProgressListener.NONE
+        );
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[][] toBytes(List<String> values) {
+        return values.stream().map(ReviewStatsRepository::bytes).toArray(byte[][]::new);
+    }
+
+    /**
+     * 누적 통계와 최근 기간 합계 (적재 전이거나 적재 중이면 둘 다 null).
+     */
+    public record ReviewStatsSnapshot(
+            ReviewStatsCounters total,
+            ReviewStatsCounters recent
+    ) {
+    }
+
+    /**
+     * DB 에서 집계한 누적 통계와 최근 작성일별 합계.
+     */
+    public record ReviewStatsSeed(
+            ReviewStatsCounters total,
+            Map<LocalDate, ReviewStatsCounters> daily
+    ) {
+        public ReviewStatsCounters recent() {
+            return daily.values().stream().reduce(ReviewStatsCounters.empty(), ReviewStatsCounters::plus);
+        }
+
+        Map<String, String> toHash() {
+            Map<String, String> hash = new LinkedHashMap<>(total.toHash());
+            daily.forEach((day, counters) -> hash.putAll(counters.toDailyHash(day)));
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.ElasticCommerce.domain.review.service;
+
+import com.example.ElasticCommerce.domain.review.dto.request.ReviewSort;
+import com.example.ElasticCommerce.domain.review.exception.ReviewExceptionType;
+import com.example.ElasticCommerce.global.exception.type.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 상품별 리뷰 목록 커서를 클라이언트에 노출할 불투명 토큰(base64url)으로 변환합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReviewCursorCodec {
+
+    private final ObjectMapper objectMapper;
+
+    public String encode(ReviewSort sort, List<Object> searchAfter) {
+        ReviewCursor cursor = new ReviewCursor(sort, searchAfter);
+        try {
+            return Base64.getUrlEncoder().withoutPadding()
+                         .encodeToString(objectMapper.writeValueAsString(cursor).getBytes(StandardCharsets.UTF_8));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("리뷰 커서 직렬화 실패", e);
+        }
+    }
+
+    public ReviewCursor decode(ReviewSort sort, String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            ReviewCursor reviewCursor = objectMapper.readValue(raw, ReviewCursor.class);
+            // 다른 정렬로 만든 커서는 위치 값이 맞지 않으므로 거부
+            if (reviewCursor.sort() != sort || !hasValidSortValues(reviewCursor.searchAfter())) {
+                throw invalid(cursor, null);
+            }
+            return reviewCursor;
+        } catch (IOException | IllegalArgumentException e) {
+            throw invalid(cursor, e);
+        }
+    }
+
+    // 정렬 값은 (createdAt epoch millis 또는 rating 숫자, reviewId 문자열) 이어야 ES 가 search_after 를 받아들임
+    private boolean hasValidSortValues(List<Object> searchAfter) {
+        return searchAfter != null
+                && searchAfter.size() == 2
+                && searchAfter.get(0) instanceof Number
+                && searchAfter.get(1) instanceof String;
+    }
+
+    private BadRequestException invalid(String cursor, Exception cause) {
+        log.warn("[Cursor][DECODE] 유효하지 않은 리뷰 커서: {}", cursor, cause);
+        return new BadRequestException(ReviewExceptionType.INVALID_CURSOR);
+    }
+
+    /**
+     * Elasticsearch 리뷰 목록 커서: 정렬 종류와 직전 페이지 마지막 히트의 정렬 값(정렬 필드, reviewId).
+     */
+    public record ReviewCursor(
+            ReviewSort sort,
+            List<Object> searchAfter
+    ) {
+    }
+}
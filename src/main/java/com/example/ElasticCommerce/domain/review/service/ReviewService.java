@@ -1,11 +1,14 @@
 package com.example.ElasticCommerce.domain.review.service;
 
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
 import co.elastic.clients.elasticsearch._types.query_dsl.*;
 import com.example.ElasticCommerce.domain.product.entity.Product;
 import com.example.ElasticCommerce.domain.product.exception.ProductExceptionType;
 import com.example.ElasticCommerce.domain.product.repository.ProductRepository;
 import com.example.ElasticCommerce.domain.review.dto.kafka.ProductRatingKafkaDTO;
 import com.example.ElasticCommerce.domain.review.dto.kafka.ReviewElasticDTO;
+import com.example.ElasticCommerce.domain.review.dto.request.ReviewSort;
 import com.example.ElasticCommerce.domain.review.dto.response.ReviewDetailResponse;
 import com.example.ElasticCommerce.domain.review.dto.response.ReviewResponse;
 import com.example.ElasticCommerce.domain.review.dto.request.CreateReviewRequest;
@@ -18,36 +21,55 @@ import com.example.ElasticCommerce.domain.review.service.kafka.ReviewKafkaProduc
 import com.example.ElasticCommerce.domain.user.entity.User;
 import com.example.ElasticCommerce.domain.user.exception.UserExceptionType;
 import com.example.ElasticCommerce.domain.user.repository.UserRepository;
+import com.example.ElasticCommerce.global.common.CursorPage;
 import com.example.ElasticCommerce.global.exception.type.BadRequestException;
 import com.example.ElasticCommerce.global.exception.type.NotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronizationAdapter;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Transactional(readOnly = true)
 public class ReviewService {
+
+    private static final int EXPORT_CHUNK = 500;
+
+    @Value("${review.list.max-page-size}")
+    private int maxPageSize;
+
     private final ReviewRepository reviewRepository;
     private final ElasticsearchOperations elasticsearchOperations;
     private final ReviewKafkaProducerService reviewKafkaProducerService;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final ReviewCursorCodec reviewCursorCodec;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
 
     public ReviewDetailResponse getReview(Long id) {
         log.info("[리뷰조회] ID={} 조회 시작", id);
@@ -61,14 +83,120 @@ public class ReviewService {
         return ReviewDetailResponse.from(review, product, user.getUsername());
     }
 
-    public List<ReviewDetailResponse> getReviewsByProduct(Long productId) {
-        log.info("[상품별리뷰조회] 상품ID={} 리뷰 리스트 조회 시작", productId);
+    /**
+     * 상품별 리뷰 목록을 reviews 색인만으로 조회합니다. 사용자명/상품 정보는 색인 시점에 비정규화돼 있어 MySQL 을 거치지 않습니다.
+     * 정렬 값과 reviewId 를 search_after 커서로 사용해 깊은 페이지도 앞 페이지를 다시 읽지 않습니다.
+     */
+    public CursorPage<ReviewDetailResponse> getReviewsByProduct(Long productId, Double minRating, ReviewSort sort, String cursor, int size) {
+        log.info("[상품별리뷰조회] 상품ID={} minRating={}, sort={}, cursor={}, size={} 리뷰 목록 조회 시작",
+                productId, minRating, sort, cursor, size);
+        validatePageSize(size);
+
+        BoolQuery.Builder filter = new BoolQuery.Builder()
+                .filter(TermQuery.of(t -> t.field("productId").value(String.valueOf(productId)))._toQuery());
+        if (minRating != null) {
+            filter.filter(NumberRangeQuery.of(r -> r.field("rating").gte(minRating))._toRangeQuery()._toQuery());
+        }
+
+        // 한 건 더 조회해 다음 페이지 존재 여부를 판단
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                                                     .withQuery(filter.build()._toQuery())
+                                                     .withSort(sortOptions(sort))
+                                                     .withSort(SortOptions.of(s -> s.field(f -> f.field("reviewId").order(tieBreakOrder(sort)))))
+                                                     .withPageable(PageRequest.of(0, size + 1));
+        boolean hasCursor = cursor != null && !cursor.isBlank();
+        if (hasCursor) {
+            queryBuilder.withSearchAfter(reviewCursorCodec.decode(sort, cursor).searchAfter());
+        }
+
+        List<SearchHit<ReviewDocument>> hits;
+        try {
+            hits = elasticsearchOperations.search(queryBuilder.build(), ReviewDocument.class).getSearchHits();
+        } catch (UncategorizedElasticsearchException e) {
+            // 매핑과 맞지 않는 search_after 값은 ES 가 400 으로 거부하므로 커서 오류로 처리
+            if (hasCursor && isCursorRejected(e)) {
+                log.warn("[상품별리뷰조회] 커서 거부: status={}, message={}", e.getStatusCode(), e.getMessage());
+                throw new BadRequestException(ReviewExceptionType.INVALID_CURSOR);
+            }
+            throw e;
+        }
+        boolean hasNext = hits.size() > size;
+        List<SearchHit<ReviewDocument>> pageHits = hasNext ? hits.subList(0, size) : hits;
+        List<ReviewDetailResponse> items = pageHits.stream()
+                                                   .map(hit -> ReviewDetailResponse.from(hit.getContent()))
+                                                   .collect(Collectors.toList());
+
+        String nextCursor = hasNext
+                ? reviewCursorCodec.encode(sort, pageHits.get(pageHits.size() - 1).getSortValues())
+                : null;
+
+        log.info("[상품별리뷰조회] 상품ID={} 리뷰 {}건 조회 완료", productId, items.size());
+        return CursorPage.of(items, nextCursor);
+    }
 
+    public void checkExportable(Long productId) {
+        if (!productRepository.existsById(productId)) {
+            log.warn("[리뷰내보내기] 상품ID={} 상품 없음", productId);
+            throw new NotFoundException(ProductExceptionType.PRODUCT_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 상품의 전체 리뷰를 NDJSON(한 줄에 리뷰 하나)으로 씁니다.
+     * 리뷰는 DB 커서로 EXPORT_CHUNK 건씩 읽고, 청크마다 사용자명을 조회해 쓴 뒤 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지합니다.
+     */
+    public void exportReviewsByProduct(Long productId, OutputStream out) throws IOException {
+        log.info("[리뷰내보내기] 상품ID={} 내보내기 시작", productId);
         Product product = productRepository.findById(productId)
                                            .orElseThrow(() -> new NotFoundException(ProductExceptionType.PRODUCT_NOT_FOUND));
 
-        List<Review> reviews = reviewRepository.findByProductId(productId);
+        long exported = 0;
+        List<Review> chunk = new ArrayList<>(EXPORT_CHUNK);
+        try (Stream<Review> reviews = reviewRepository.streamByProductId(productId)) {
+            Iterator<Review> iterator = reviews.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK || !iterator.hasNext()) {
+                    for (ReviewDetailResponse response : toDetailResponses(chunk, product)) {
+                        out.write(objectMapper.writeValueAsBytes(response));
+                        out.write('\n');
+                    }
+                    out.flush();
+                    exported += chunk.size();
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+        log.info("[리뷰내보내기] 상품ID={} 리뷰 {}건 내보내기 완료", productId, exported);
+    }
+
+    private boolean isCursorRejected(UncategorizedElasticsearchException e) {
+        Integer status = e.getStatusCode();
+        return status != null && status == 400;
+    }
 
+    private void validatePageSize(int size) {
+        if (size < 1 || size > maxPageSize) {
+            log.warn("[상품별리뷰조회] 페이지 크기 오류: size={}, max={}", size, maxPageSize);
+            throw new BadRequestException(ReviewExceptionType.INVALID_PAGE_SIZE);
+        }
+    }
+
+    private SortOptions sortOptions(ReviewSort sort) {
+        return switch (sort) {
+            case LATEST -> SortOptions.of(s -> s.field(f -> f.field("createdAt").order(SortOrder.Desc)));
+            case RATING_HIGH -> SortOptions.of(s -> s.field(f -> f.field("rating").order(SortOrder.Desc)));
+            case RATING_LOW -> SortOptions.of(s -> s.field(f -> f.field("rating").order(SortOrder.Asc)));
+        };
+    }
+
+    private SortOrder tieBreakOrder(ReviewSort sort) {
+        return sort == ReviewSort.RATING_LOW ? SortOrder.Asc : SortOrder.Desc;
+    }
+
+    // 사용자명은 해당 리뷰 묶음의 작성자만 한 번에 조회
+    private List<ReviewDetailResponse> toDetailResponses(List<Review> reviews, Product product) {
         List<Long> userIds = reviews.stream()
                                     .map(Review::getUserId)
                                     .distinct()
@@ -77,21 +205,17 @@ public class ReviewService {
         Map<Long, String> userNameMap = userRepository.findAllById(userIds).stream()
                                                       .collect(Collectors.toMap(User::getUserId, User::getUsername));
 
-        List<ReviewDetailResponse> list = reviews.stream()
-                                                 .map(review -> {
-                                                     String userName = userNameMap.get(review.getUserId());
-                                                     if (userName == null) {
-                                                         throw new NotFoundException(UserExceptionType.NOT_FOUND_USER);
-                                                     }
-                                                     return ReviewDetailResponse.from(review, product, userName);
-                                                 })
-                                                 .collect(Collectors.toList());
-
-        log.info("[상품별리뷰조회] 상품ID={} 리뷰 {}건 조회 완료", productId, list.size());
-        return list;
+        return reviews.stream()
+                      .map(review -> {
+                          String userName = userNameMap.get(review.getUserId());
+                          if (userName == null) {
+                              throw new NotFoundException(UserExceptionType.NOT_FOUND_USER);
+                          }
+                          return ReviewDetailResponse.from(review, product, userName);
+                      })
+                      .collect(Collectors.toList());
     }
 
-
     @Transactional
     public ReviewResponse createReview(CreateReviewRequest req) {
         log.info("[리뷰등록] 상품ID={}, 사용자ID={} 리뷰등록 요청", req.productId(), req.userId());
@@ -118,18 +242,11 @@ public class ReviewService {
 
         reviewKafkaProducerService.sendReview("review-topic", ReviewElasticDTO.from(review, "CREATE"));
 
-        TransactionSynchronizationManager.registerSynchronization(
-                new TransactionSynchronizationAdapter() {
-                    @Override
-                    public void afterCommit() {
-                        reviewKafkaProducerService.sendProductRating(
-                                "review-rating-topic",
-                                new ProductRatingKafkaDTO(review.getProductId())
-                        );
-                        log.info("[리뷰등록] 평점갱신 메시지 전송: productId={}", review.getProductId());
-                    }
-                }
+        reviewKafkaProducerService.sendProductRating(
+                "review-rating-topic",
+                ProductRatingKafkaDTO.created(review, System.currentTimeMillis())
         );
+        log.info("[리뷰등록] 평점갱신 메시지 적재: productId={}", review.getProductId());
 
         log.info("[리뷰등록] ID={} 리뷰등록 완료", review.getId());
         return ReviewResponse.from(review);
@@ -145,23 +262,20 @@ public class ReviewService {
 
         Review review = reviewRepository.findById(id)
                                         .orElseThrow(() -> new NotFoundException(ReviewExceptionType.REVIEW_NOT_FOUND));
+        double previousRating = review.getRating();
         review.update(req.title(), req.rating(), req.comment());
         reviewRepository.save(review);
 
         reviewKafkaProducerService.sendReview("review-topic", ReviewElasticDTO.from(review, "UPDATE"));
 
-        TransactionSynchronizationManager.registerSynchronization(
-                new TransactionSynchronizationAdapter() {
-                    @Override
-                    public void afterCommit() {
-                        reviewKafkaProducerService.sendProductRating(
-                                "review-rating-topic",
-                                new ProductRatingKafkaDTO(review.getProductId())
-                        );
-                        log.info("[리뷰수정] 평점갱신 메시지 전송: productId={}", review.getProductId());
-                    }
-                }
-        );
+        // 평점이 바뀐 경우에만 상품 평점 증분 전송
+        if (Double.compare(previousRating, review.getRating()) != 0) {
+            reviewKafkaProducerService.sendProductRating(
+                    "review-rating-topic",
+                    ProductRatingKafkaDTO.changed(review, previousRating, System.currentTimeMillis())
+            );
+            log.info("[리뷰수정] 평점갱신 메시지 적재: productId={}", review.getProductId());
+        }
 
         log.info("[리뷰수정] ID={} 리뷰등록 완료", review.getId());
         return ReviewResponse.from(review);
@@ -176,18 +290,11 @@ public class ReviewService {
 
         reviewKafkaProducerService.sendReview("review-topic", ReviewElasticDTO.from(review, "DELETE"));
 
-        TransactionSynchronizationManager.registerSynchronization(
-                new TransactionSynchronizationAdapter() {
-                    @Override
-                    public void afterCommit() {
-                        reviewKafkaProducerService.sendProductRating(
-                                "review-rating-topic",
-                                new ProductRatingKafkaDTO(review.getProductId())
-                        );
-                        log.info("[리뷰삭제] 평점갱신 메시지 전송: productId={}", review.getProductId());
-                    }
-                }
+        reviewKafkaProducerService.sendProductRating(
+                "review-rating-topic",
+                ProductRatingKafkaDTO.deleted(review, System.currentTimeMillis())
         );
+        log.info("[리뷰삭제] 평점갱신 메시지 적재: productId={}", review.getProductId());
 
         log.info("[리뷰삭제] ID={} 리뷰삭제 완료", id);
     }
@@ -0,0 +1,146 @@
+package com.example.ElasticCommerce.domain.review.service;
+
+import com.example.ElasticCommerce.domain.review.dto.kafka.ProductRatingKafkaDTO;
+import com.example.ElasticCommerce.domain.review.dto.response.ReviewDailyCount;
+import com.example.ElasticCommerce.domain.review.dto.response.ReviewStarCount;
+import com.example.ElasticCommerce.domain.review.dto.response.ReviewStatsResponse;
+import com.example.ElasticCommerce.domain.review.entity.Review;
+import com.example.ElasticCommerce.domain.review.exception.ReviewExceptionType;
+import com.example.ElasticCommerce.domain.review.repository.ReviewRepository;
+import com.example.ElasticCommerce.domain.review.repository.ReviewStatsCounters;
+import com.example.ElasticCommerce.domain.review.repository.ReviewStatsRepository;
+import com.example.ElasticCommerce.domain.review.repository.ReviewStatsRepository.ReviewStatsSeed;
+import com.example.ElasticCommerce.domain.review.repository.ReviewStatsRepository.ReviewStatsSnapshot;
+import com.example.ElasticCommerce.global.exception.type.BadRequestException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 상품별 리뷰 통계(별점 분포, 리뷰 수, 평균, 최근 추이) 조회와 증분 반영.
+ * 통계는 Redis 해시에 상품당 하나씩 두고 리뷰 평점 이벤트로 갱신하므로, 조회는 리뷰 수와 무관하게 해시 몇 개를 읽는 것으로 끝납니다.
+ */
+@Service
+@Slf4j
+public class ReviewStatsService {
+
+    // 적재를 시작한 노드가 완료하지 못하면 이 시간 뒤 해시가 만료되어 다음 조회에서 다시 적재
+    private static final Duration SEED_TIMEOUT = Duration.ofMinutes(1);
+
+    private final ReviewStatsRepository reviewStatsRepository;
+    private final ReviewRepository      reviewRepository;
+    private final Clock                 clock;
+    private final Duration              statsTtl;
+    private final int                   trendDays;
+    private final int                   maxBatchSize;
+
+    public ReviewStatsService(
+            ReviewStatsRepository reviewStatsRepository,
+            ReviewRepository reviewRepository,
+            Clock clock,
+            @Value("${review.stats.ttl-hours}") long ttlHours,
+            @Value("${review.stats.trend-days}") int trendDays,
+            @Value("${review.stats.max-batch-size}") int maxBatchSize
+    ) {
+        this.reviewStatsRepository = reviewStatsRepository;
+        this.reviewRepository = reviewRepository;
+        this.clock = clock;
+        this.statsTtl = Duration.ofHours(ttlHours);
+        this.trendDays = trendDays;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public ReviewStatsResponse getStats(Long productId) {
+        return getStats(List.of(productId)).get(0);
+    }
+
+    /**
+     * 여러 상품의 통계를 한 번에 조회합니다. (목록 화면용)
+     * 누적 통계가 아직 없는 상품만 DB 에서 GROUP BY 로 집계해 적재합니다. 두 집계가 같은 스냅샷을 읽도록 읽기 트랜잭션 안에서 수행합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<ReviewStatsResponse> getStats(List<Long> productIds) {
+        List<Long> ids = productIds.stream().distinct().toList();
+        if (ids.size() > maxBatchSize) {
+            log.warn("[리뷰통계] 조회 상품 수 초과: {}건 (최대 {}건)", ids.size(), maxBatchSize);
+            throw new BadRequestException(ReviewExceptionType.TOO_MANY_PRODUCTS);
+        }
+
+        List<LocalDate> days = recentDays();
+        Map<Long, ReviewStatsSnapshot> snapshots = reviewStatsRepository.findStats(ids, days);
+
+        List<Long> missing = ids.stream()
+                                .filter(id -> snapshots.get(id).total() == null)
+                                .toList();
+        Map<Long, ReviewStatsSeed> seeded = missing.isEmpty() ? Map.of() : seed(missing, days);
+
+        List<ReviewStatsResponse> responses = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ReviewStatsSnapshot snapshot = snapshots.get(id);
+            responses.add(snapshot.total() != null
+                    ? ReviewStatsResponse.of(id, snapshot.total(), snapshot.recent())
+                    : ReviewStatsResponse.of(id, seeded.get(id).total(), seeded.get(id).recent()));
+        }
+        return responses;
+    }
+
+    /**
+     * review-rating-topic 의 증분을 상품별로 모아 반영합니다. 최근 추이는 리뷰 작성일 기준으로 기록합니다.
+     */
+    public void applyDeltas(List<ProductRatingKafkaDTO> events) {
+        Map<Long, List<ProductRatingKafkaDTO>> eventsByProduct = new LinkedHashMap<>();
+        events.forEach(event -> eventsByProduct.computeIfAbsent(event.productId(), id -> new ArrayList<>()).add(event));
+        List<LocalDate> days = recentDays();
+        reviewStatsRepository.applyDeltas(eventsByProduct, days.get(days.size() - 1));
+    }
+
+    // 적재 시각을 먼저 기록한 뒤 DB 를 집계해, 집계에 포함되지 않은 이후 변경만 증분으로 더해지게 함
+    private Map<Long, ReviewStatsSeed> seed(List<Long> productIds, List<LocalDate> days) {
+        String token = UUID.randomUUID().toString();
+        reviewStatsRepository.reserveSeed(productIds, token, clock.millis(), SEED_TIMEOUT);
+
+        Map<Long, ReviewStatsCounters> totals = new HashMap<>();
+        Map<Long, Map<LocalDate, ReviewStatsCounters>> daily = new HashMap<>();
+        productIds.forEach(id -> {
+            totals.put(id, ReviewStatsCounters.empty());
+            daily.put(id, new HashMap<>());
+        });
+
+        for (ReviewStarCount row : reviewRepository.countStarsByProductIdIn(productIds)) {
+            Map<Integer, Long> histogram = new HashMap<>();
+            histogram.put(Review.starOf(row.star()), row.reviewCount());
+            totals.merge(row.productId(), new ReviewStatsCounters(row.ratingSum(), row.reviewCount(), histogram), ReviewStatsCounters::plus);
+        }
+        LocalDate trendStart = days.get(days.size() - 1);
+        for (ReviewDailyCount row : reviewRepository.countDailyByProductIdIn(productIds, trendStart.atStartOfDay())) {
+            daily.get(row.productId()).put(row.day(), new ReviewStatsCounters(row.ratingSum(), row.reviewCount(), Map.of()));
+        }
+
+        Map<Long, ReviewStatsSeed> seeds = new HashMap<>();
+        productIds.forEach(id -> seeds.put(id, new ReviewStatsSeed(totals.get(id), daily.get(id))));
+        reviewStatsRepository.completeSeed(seeds, token, statsTtl);
+        log.info("[리뷰통계] DB 집계로 통계 적재: 상품={}건", seeds.size());
+        return seeds;
+    }
+
+    private List<LocalDate> recentDays() {
+        LocalDate today = LocalDate.now(clock);
+        List<LocalDate> days = new ArrayList<>(trendDays);
+        for (int i = 0; i < trendDays; i++) {
+            days.add(today.minusDays(i));
+        }
+        return days;
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.ElasticCommerce.domain.review.service.kafka;
 
+import com.example.ElasticCommerce.domain.product.entity.Product;
+import com.example.ElasticCommerce.domain.product.repository.ProductRepository;
 import com.example.ElasticCommerce.domain.review.dto.kafka.ReviewElasticDTO;
 import com.example.ElasticCommerce.domain.review.entity.ReviewDocument;
 import com.example.ElasticCommerce.domain.review.repository.ReviewDocumentRepository;
+import com.example.ElasticCommerce.domain.user.entity.User;
+import com.example.ElasticCommerce.domain.user.repository.UserRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +24,8 @@ import java.time.ZoneId;
 public class ReviewElasticConsumer {
 
     private final ReviewDocumentRepository reviewDocumentRepository;
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
     private final ObjectMapper objectMapper;
 
     @KafkaListener(
@@ -53,10 +59,20 @@ public class ReviewElasticConsumer {
 
         } else {
             // CREATE / UPDATE / OPEN / CLOSE / UPDATE_STOCK / UPDATE_RATING 등 모든 비-DELETE 이벤트: upsert
+            // 목록 조회가 MySQL 을 거치지 않도록 사용자명/상품 정보를 문서에 함께 저장
+            String userName = userRepository.findById(dto.userId())
+                                            .map(User::getUsername)
+                                            .orElse(null);
+            Product product = productRepository.findById(dto.productId()).orElse(null);
+
             ReviewDocument reviewDocument = ReviewDocument.builder()
                                                           .reviewId(dto.id())
                                                           .productId(dto.productId().toString())
                                                           .userId(dto.userId().toString())
+                                                          .userName(userName)
+                                                          .productCode(product != null ? product.getProductCode() : null)
+                                                          .productName(product != null ? product.getName() : null)
+                                                          .productCategory(product != null ? product.getCategory() : null)
                                                           .title(dto.title())
                                                           .rating(dto.rating())
                                                           .comment(dto.comment())
@@ -2,61 +2,24 @@ package com.example.ElasticCommerce.domain.review.service.kafka;
 
 import com.example.ElasticCommerce.domain.review.dto.kafka.ProductRatingKafkaDTO;
 import com.example.ElasticCommerce.domain.review.dto.kafka.ReviewElasticDTO;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.ElasticCommerce.global.outbox.OutboxEventPublisher;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.producer.RecordMetadata;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class ReviewKafkaProducerService {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxEventPublisher outboxEventPublisher;
 
+    // 리뷰 변경과 같은 트랜잭션에서 outbox 에 적재하고, 커밋 후 릴레이가 Kafka 로 발행
     public void sendReview(String topic, ReviewElasticDTO dto) {
-        String msg;
-        try {
-            msg = objectMapper.writeValueAsString(dto);
-        } catch (JsonProcessingException e) {
-            log.error("ReviewElasticDTO 직렬화 실패", e);
-            return;
-        }
-
-        kafkaTemplate.send(topic, msg)
-                     .whenComplete((result, ex) -> {
-                         if (ex != null) {
-                             log.error("Kafka 전송 실패", ex);
-                         } else {
-                             RecordMetadata meta = result.getRecordMetadata();
-                             log.info("카프카 메시지 전송 성공 topic={} partition={} offset={}",
-                                     meta.topic(), meta.partition(), meta.offset());
-                         }
-                     });
+        // 리뷰 id 를 키로 사용해 같은 리뷰의 이벤트 순서 보장
+        outboxEventPublisher.publish(topic, dto.id(), dto);
     }
 
     public void sendProductRating(String topic, ProductRatingKafkaDTO dto) {
-        String msg;
-        try {
-            msg = objectMapper.writeValueAsString(dto);
-        } catch (JsonProcessingException e) {
-            log.error("ProductRatingKafkaDTO 직렬화 실패", e);
-            return;
-        }
-
-        kafkaTemplate.send(topic, msg)
-                     .whenComplete((result, ex) -> {
-                         if (ex != null) {
-                             log.error("Kafka 전송 실패", ex);
-                         } else {
-                             RecordMetadata meta = result.getRecordMetadata();
-                             log.info("카프카 메시지 전송 성공 topic={} partition={} offset={}",
-                                     meta.topic(), meta.partition(), meta.offset());
-                         }
-                     });
+        // 상품 id 를 키로 사용해 같은 상품의 평점 이벤트 순서 보장
+        outboxEventPublisher.publish(topic, String.valueOf(dto.productId()), dto);
     }
 }
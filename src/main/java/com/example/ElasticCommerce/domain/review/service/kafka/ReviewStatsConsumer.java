@@ -0,0 +1,57 @@
+package com.example.ElasticCommerce.domain.review.service.kafka;
+
+import com.example.ElasticCommerce.domain.review.dto.kafka.ProductRatingKafkaDTO;
+import com.example.ElasticCommerce.domain.review.service.ReviewStatsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ReviewStatsConsumer {
+
+    private final ReviewStatsService reviewStatsService;
+    private final ObjectMapper       objectMapper;
+
+    /**
+     * 상품 평점 갱신과 별도 그룹으로 review-rating-topic 을 읽어 리뷰 통계 해시에 반영합니다.
+     * 한 창 동안 모인 증분은 상품별로 모아 상품당 스크립트 한 번, 창당 파이프라인 한 번으로 처리합니다.
+     * 증분마다 통계 적재 시각과 비교해야 하므로 합계를 미리 합치지는 않습니다.
+     */
+    @KafkaListener(
+            topics           = "review-rating-topic",
+            groupId          = "review-stats-group",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            concurrency      = "3",
+            properties       = {
+                    "max.poll.records=${review.stats.batch-size}",
+                    "fetch.max.wait.ms=${review.stats.window-ms}"
+            }
+    )
+    public void consumeRatingEvents(List<ConsumerRecord<String, String>> records, Acknowledgment ack) {
+        List<ProductRatingKafkaDTO> deltas = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                deltas.add(objectMapper.readValue(record.value(), ProductRatingKafkaDTO.class));
+            } catch (JsonProcessingException e) {
+                log.error("[ReviewStats][PARSE_ERROR] 메시지 파싱 오류: {}", record.value(), e);
+            }
+        }
+
+        if (!deltas.isEmpty()) {
+            reviewStatsService.applyDeltas(deltas);
+        }
+        log.info("[ReviewStats] 메시지={}건, 증분={}건 통계 반영 완료", records.size(), deltas.size());
+
+        ack.acknowledge();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.ElasticCommerce.global.common;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답. nextCursor 를 그대로 다음 요청의 cursor 로 넘기면 이어서 조회하며, 마지막 페이지면 null 입니다.
+ */
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor,
+        boolean hasNext
+) {
+    public static <T> CursorPage<T> of(List<T> items, String nextCursor) {
+        return new CursorPage<>(items, nextCursor, nextCursor != null);
+    }
+}
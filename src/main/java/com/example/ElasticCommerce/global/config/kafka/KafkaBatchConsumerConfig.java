@@ -0,0 +1,43 @@
+package com.example.ElasticCommerce.global.config.kafka;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * poll 단위로 레코드를 묶어 처리하는 배치 리스너 팩토리.
+ * 배치 크기(max.poll.records)와 대기 시간(fetch.max.wait.ms)은 각 리스너의 properties 로 지정합니다.
+ * 테스트 프로필에서도 리스너 등록이 가능하도록 프로필 제한 없이 등록합니다.
+ */
+@Configuration
+public class KafkaBatchConsumerConfig {
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchKafkaListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory,
+            ObjectProvider<CommonErrorHandler> errorHandler
+    ) {
+        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+
+        factory.setConsumerFactory(consumerFactory);
+
+        // 파티션 수만큼 스레드 병렬 처리
+        factory.setConcurrency(6);
+
+        // 배치 리스닝 활성화
+        factory.setBatchListener(true);
+
+        // 배치 처리 완료 후 한 번만 수동 커밋
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+
+        // 에러 핸들러 등록 (배치 전체 재시도 후 레코드 단위로 DLT 전송)
+        errorHandler.ifAvailable(factory::setCommonErrorHandler);
+
+        return factory;
+    }
+}
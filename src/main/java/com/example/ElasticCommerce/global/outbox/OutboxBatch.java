@@ -0,0 +1,12 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import java.util.List;
+
+/**
+ * 임대한 shard 하나와 그 shard 에서 id 순으로 읽은 발행 대상 메시지.
+ */
+public record OutboxBatch(
+        int shard,
+        List<OutboxEvent> events
+) {
+}
@@ -0,0 +1,55 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 릴레이의 DB 작업을 각각 짧은 트랜잭션으로 처리합니다. (shard 임대 + 메시지 조회 / 전송 확인분 삭제 + 임대 해제)
+ * Kafka 전송은 두 트랜잭션 사이, 어떤 트랜잭션에도 속하지 않은 상태에서 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxBatchStore {
+
+    private final OutboxShardRepository outboxShardRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final Clock                 clock;
+
+    /**
+     * 발행할 메시지가 있는 shard 하나를 lease 동안 임대하고 앞에서부터 batchSize 건을 읽습니다.
+     *
+     * @return 임대할 수 있는 shard 가 없으면 empty
+     */
+    @Transactional
+    public Optional<OutboxBatch> claim(String owner, Duration lease, int batchSize) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxShard> shards = outboxShardRepository.lockLeasablePendingShards(now, Limit.of(1));
+        if (shards.isEmpty()) {
+            return Optional.empty();
+        }
+
+        OutboxShard shard = shards.get(0);
+        shard.lease(owner, now.plus(lease));
+        List<OutboxEvent> events = outboxEventRepository.findByShardOrderByIdAsc(shard.getId(), Limit.of(batchSize));
+        return Optional.of(new OutboxBatch(shard.getId(), events));
+    }
+
+    /**
+     * 전송이 확인된 메시지를 지우고 임대를 해제합니다.
+     */
+    @Transactional
+    public void complete(int shard, String owner, List<Long> sentIds) {
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.deleteAllByIdInBatch(sentIds);
+        }
+        outboxShardRepository.releaseLease(shard, owner);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * outbox shard 하나를 임대하고 쌓인 메시지를 id 순으로 Kafka 에 전송한 뒤, 전송이 확인된 앞부분만 삭제합니다.
+ * 중간에 실패한 메시지부터는 남겨 두고 다음 주기에 다시 보내므로 같은 키의 순서가 뒤바뀌지 않습니다(at-least-once).
+ * 임대/삭제는 각각 짧은 트랜잭션({@link OutboxBatchStore})이고, 전송 중에는 DB 커넥션과 행 잠금을 들고 있지 않습니다.
+ */
+@Component
+@Slf4j
+public class OutboxDispatcher {
+
+    private final OutboxBatchStore              outboxBatchStore;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final int                           batchSize;
+    private final long                          sendTimeoutMillis;
+    private final Duration                      lease;
+    private final String                        owner = UUID.randomUUID().toString();
+
+    public OutboxDispatcher(
+            OutboxBatchStore outboxBatchStore,
+            KafkaTemplate<String, String> kafkaTemplate,
+            @Value("${outbox.relay.batch-size}") int batchSize,
+            @Value("${outbox.relay.send-timeout-ms}") long sendTimeoutMillis,
+            @Value("${outbox.relay.lease-ms}") long leaseMillis
+    ) {
+        this.outboxBatchStore = outboxBatchStore;
+        this.kafkaTemplate = kafkaTemplate;
+        this.batchSize = batchSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        // 전송 확인을 기다리는 동안 임대가 끝나 다른 노드가 같은 메시지를 보내지 않도록 대기 시간보다 길게 유지
+        this.lease = Duration.ofMillis(Math.max(leaseMillis, sendTimeoutMillis * 2));
+    }
+
+    /**
+     * @return 전송 후 삭제한 메시지 수. 잡을 수 있는 shard 가 없으면 empty
+     */
+    public Optional<Integer> dispatchNextShard() {
+        Optional<OutboxBatch> claimed = outboxBatchStore.claim(owner, lease, batchSize);
+        if (claimed.isEmpty()) {
+            return Optional.empty();
+        }
+
+        OutboxBatch batch = claimed.get();
+        List<Long> sentIds = List.of();
+        try {
+            sentIds = send(batch.events());
+        } finally {
+            // 전송 도중 예외가 나도 임대는 풀어 다음 주기에 확인된 앞부분 이후부터 다시 보냄
+            outboxBatchStore.complete(batch.shard(), owner, sentIds);
+        }
+
+        if (sentIds.size() < batch.events().size()) {
+            log.warn("[Outbox][RELAY] 전송 실패로 중단: shard={}, 전송={}건, 남은 메시지={}건",
+                    batch.shard(), sentIds.size(), batch.events().size() - sentIds.size());
+        }
+        return Optional.of(sentIds.size());
+    }
+
+    /**
+     * 배치 전체를 비동기로 보내 프로듀서 배치/압축을 태운 뒤 순서대로 결과를 확인합니다.
+     * 전체 대기 시간은 send-timeout-ms 를 넘지 않습니다.
+     *
+     * @return 앞에서부터 전송이 확인된 메시지 id
+     */
+    private List<Long> send(List<OutboxEvent> events) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+
+        List<CompletableFuture<SendResult<String, String>>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            try {
+                // 메타데이터를 못 받거나 버퍼가 차면 send 가 max.block.ms 까지 막힐 수 있으므로 첫 실패에서 멈춤
+                futures.add(kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()));
+            } catch (RuntimeException e) {
+                log.error("[Outbox][RELAY] Kafka 전송 요청 실패: id={}, topic={}, key={}",
+                        event.getId(), event.getTopic(), event.getMessageKey(), e);
+                break;
+            }
+            if (System.nanoTime() > deadline) {
+                break;
+            }
+        }
+        kafkaTemplate.flush();
+
+        List<Long> sentIds = new ArrayList<>(futures.size());
+        for (int i = 0; i < futures.size(); i++) {
+            if (!awaitSent(events.get(i), futures.get(i), deadline)) {
+                break;
+            }
+            sentIds.add(events.get(i).getId());
+        }
+        return sentIds;
+    }
+
+    private boolean awaitSent(OutboxEvent event, CompletableFuture<SendResult<String, String>> future, long deadline) {
+        try {
+            future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("[Outbox][RELAY] Kafka 전송 실패: id={}, topic={}, key={}",
+                    event.getId(), event.getTopic(), event.getMessageKey(), e);
+            return false;
+        }
+    }
+}
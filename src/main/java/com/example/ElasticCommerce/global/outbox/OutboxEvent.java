@@ -0,0 +1,52 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행 대기 중인 Kafka 메시지 (transactional outbox).
+ * 도메인 변경과 같은 트랜잭션에서 저장되므로 롤백된 변경의 메시지는 남지 않고, 커밋된 변경의 메시지는 유실되지 않습니다.
+ */
+@Entity
+@Table(
+        name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_events_shard_id", columnList = "shard, id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    // 같은 키의 메시지는 id 순으로 발행하므로 삽입 순서대로 증가하는 IDENTITY 사용
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String topic;
+
+    @Column(nullable = false, length = 100)
+    private String messageKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    // 같은 키는 항상 같은 shard 에 들어가며, 한 shard 는 한 번에 한 노드만 발행
+    @Column(nullable = false)
+    private int shard;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Builder
+    public OutboxEvent(String topic, String messageKey, String payload, int shard, LocalDateTime createdAt) {
+        this.topic = topic;
+        this.messageKey = messageKey;
+        this.payload = payload;
+        this.shard = shard;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Kafka 로 보낼 메시지를 호출 측 트랜잭션 안에서 outbox 테이블에 적재합니다.
+ * 실제 전송은 {@link OutboxRelay} 가 커밋된 메시지만 읽어 수행합니다.
+ *
+ * 릴레이는 같은 shard 를 id 순으로 보내지만 id 는 커밋 순서가 아니라 INSERT 순서로 붙습니다.
+ * 그래서 적재 전에 호출 측의 변경을 flush 해 변경한 행의 잠금을 먼저 잡습니다. 같은 행(예: 같은 상품/리뷰)을 바꾸는
+ * 트랜잭션은 이 지점에서 앞 트랜잭션의 커밋을 기다리므로, 같은 키의 메시지는 커밋 순서대로 id 를 받습니다.
+ * 공통 행을 바꾸지 않는 쓰기(예: 서로 다른 리뷰가 만드는 상품 평점 증분)는 순서를 보장하지 않으므로
+ * 그런 메시지는 순서와 무관하게 합산 가능한 형태여야 합니다.
+ */
+@Component
+@Slf4j
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final EntityManager         entityManager;
+    private final ObjectMapper          objectMapper;
+    private final Clock                 clock;
+    private final int                   shardCount;
+
+    public OutboxEventPublisher(
+            OutboxEventRepository outboxEventRepository,
+            EntityManager entityManager,
+            ObjectMapper objectMapper,
+            Clock clock,
+            @Value("${outbox.shard-count}") int shardCount
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.shardCount = shardCount;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String topic, String key, Object message) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            // 직렬화할 수 없는 메시지는 도메인 변경과 함께 롤백
+            throw new IllegalStateException("outbox 메시지 직렬화 실패: topic=" + topic + ", key=" + key, e);
+        }
+
+        // 같은 행을 바꾸는 트랜잭션끼리 커밋 순서 = outbox id 순서가 되도록 행 잠금을 먼저 잡음
+        entityManager.flush();
+        outboxEventRepository.save(OutboxEvent.builder()
+                                              .topic(topic)
+                                              .messageKey(key)
+                                              .payload(payload)
+                                              .shard(Math.floorMod(key.hashCode(), shardCount))
+                                              .createdAt(LocalDateTime.now(clock))
+                                              .build());
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    List<OutboxEvent> findByShardOrderByIdAsc(int shard, Limit limit);
+}
@@ -0,0 +1,85 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * outbox 메시지를 주기적으로 Kafka 에 발행합니다.
+ * 한 주기에 shard 를 하나씩 임대해 비우며, 잡을 shard 가 없거나 max-rounds 에 도달하면 다음 주기로 넘깁니다.
+ * 각 노드는 서로 다른 shard 를 잡으므로 노드 수만큼 발행이 병렬화됩니다.
+ */
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxDispatcher      outboxDispatcher;
+    private final OutboxShardRepository outboxShardRepository;
+    private final int                   shardCount;
+    private final int                   maxRounds;
+
+    public OutboxRelay(
+            OutboxDispatcher outboxDispatcher,
+            OutboxShardRepository outboxShardRepository,
+            @Value("${outbox.shard-count}") int shardCount,
+            @Value("${outbox.relay.max-rounds}") int maxRounds
+    ) {
+        this.outboxDispatcher = outboxDispatcher;
+        this.outboxShardRepository = outboxShardRepository;
+        this.shardCount = shardCount;
+        this.maxRounds = maxRounds;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureShards() {
+        Set<Integer> existing = new HashSet<>();
+        outboxShardRepository.findAll().forEach(shard -> existing.add(shard.getId()));
+
+        List<OutboxShard> missing = IntStream.range(0, shardCount)
+                                             .filter(id -> !existing.contains(id))
+                                             .mapToObj(OutboxShard::new)
+                                             .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        try {
+            outboxShardRepository.saveAll(missing);
+            log.info("[Outbox][INIT] shard 생성: {}건", missing.size());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 동시에 생성한 경우
+            log.info("[Outbox][INIT] shard 가 이미 생성됨");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms}")
+    public void relay() {
+        int published = 0;
+        for (int round = 0; round < maxRounds; round++) {
+            Optional<Integer> sent;
+            try {
+                sent = outboxDispatcher.dispatchNextShard();
+            } catch (RuntimeException e) {
+                log.error("[Outbox][RELAY] 발행 실패", e);
+                break;
+            }
+            if (sent.isEmpty() || sent.get() == 0) {
+                // 잡을 shard 가 없거나 전송 실패로 진행하지 못함
+                break;
+            }
+            published += sent.get();
+        }
+        if (published > 0) {
+            log.debug("[Outbox][RELAY] 발행={}건", published);
+        }
+    }
+}
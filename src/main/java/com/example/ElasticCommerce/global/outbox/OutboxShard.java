@@ -0,0 +1,39 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox 발행 단위. 릴레이는 이 행을 SKIP LOCKED 로 잠가 임대(lease)를 기록한 뒤 바로 커밋하고,
+ * 임대가 끝날 때까지 다른 노드는 이 shard 를 잡지 않으므로 여러 노드가 서로 다른 shard 를 병렬로 발행하면서도
+ * 같은 키의 순서는 유지됩니다. Kafka 전송 동안에는 DB 트랜잭션이나 행 잠금을 들고 있지 않습니다.
+ */
+@Entity
+@Table(name = "outbox_shards")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxShard {
+
+    @Id
+    private Integer id;
+
+    // 임대한 노드와 만료 시각 (노드가 죽어도 만료되면 다른 노드가 이어서 발행)
+    private String leaseOwner;
+
+    private LocalDateTime leasedUntil;
+
+    public OutboxShard(Integer id) {
+        this.id = id;
+    }
+
+    public void lease(String owner, LocalDateTime until) {
+        this.leaseOwner = owner;
+        this.leasedUntil = until;
+    }
+}
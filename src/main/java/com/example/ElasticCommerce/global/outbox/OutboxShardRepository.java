@@ -0,0 +1,39 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxShardRepository extends JpaRepository<OutboxShard, Integer> {
+
+    // 발행할 메시지가 있고 임대 중이 아닌 shard 중 다른 노드가 잡지 않은 것을 잠금 (lock.timeout -2 = SELECT ... FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT s
+          FROM OutboxShard s
+         WHERE (s.leasedUntil IS NULL OR s.leasedUntil < :now)
+           AND EXISTS (SELECT 1 FROM OutboxEvent e WHERE e.shard = s.id)
+         ORDER BY s.id
+    """)
+    List<OutboxShard> lockLeasablePendingShards(@Param("now") LocalDateTime now, Limit limit);
+
+    // 직접 잡은 임대만 해제 (만료 후 다른 노드가 다시 잡았으면 건드리지 않음)
+    @Modifying
+    @Query("""
+        UPDATE OutboxShard s
+           SET s.leaseOwner = NULL, s.leasedUntil = NULL
+         WHERE s.id = :id
+           AND s.leaseOwner = :owner
+    """)
+    int releaseLease(@Param("id") int id, @Param("owner") String owner);
+}
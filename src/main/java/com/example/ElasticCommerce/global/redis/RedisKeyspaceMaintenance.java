@@ -0,0 +1,134 @@
+package com.example.ElasticCommerce.global.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 공용 Redis 의 키 네임스페이스 단위 유지보수 작업 (삭제, 대량 적재).
+ * KEYS 처럼 이벤트 루프를 오래 막는 명령 대신 SCAN 커서로 조금씩 읽고,
+ * 명령은 배치 단위로 묶어 보내 키 개수만큼의 왕복을 피합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RedisKeyspaceMaintenance {
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 진행 상황 콜백. 배치가 끝날 때마다 지금까지 처리한 누적 건수로 호출됩니다.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        ProgressListener NONE = processed -> {
+        };
+
+        void onProgress(long processed);
+    }
+
+    public long deleteByPattern(String pattern) {
+        return deleteByPattern(pattern, DEFAULT_BATCH_SIZE, ProgressListener.NONE);
+    }
+
+    /**
+     * SCAN 으로 pattern 에 맞는 키를 batchSize 씩 읽어 UNLINK 합니다.
+     * UNLINK 는 값 해제를 백그라운드 스레드에서 하므로 큰 키가 섞여 있어도 이벤트 루프를 막지 않습니다.
+     *
+     * @param pattern   SCAN MATCH 패턴 (예: "coupon-stock:*")
+     * @param batchSize SCAN COUNT 힌트이자 UNLINK 한 번에 보낼 키 수
+     * @param progress  진행 상황 콜백
+     * @return 삭제한 키 수
+     */
+    public long deleteByPattern(String pattern, int batchSize, ProgressListener progress) {
+        long startedAt = System.currentTimeMillis();
+        long deleted = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize) {
+                    deleted += unlink(batch);
+                    progress.onProgress(deleted);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            deleted += unlink(batch);
+            progress.onProgress(deleted);
+        }
+
+        log.info("[RedisMaintenance][DELETE] pattern={}, 삭제={}건, 소요={}ms",
+                pattern, deleted, System.currentTimeMillis() - startedAt);
+        return deleted;
+    }
+
+    /**
+     * items 를 batchSize 씩 나눠 각 배치의 명령을 파이프라인 한 번으로 보냅니다.
+     * 대량 초기 적재처럼 키마다 독립적인 쓰기를 할 때 사용하며, 배치 사이에는 다른 클라이언트 명령이 처리될 수 있습니다.
+     *
+     * @param name      로그에 남길 작업 이름
+     * @param items     적재할 항목
+     * @param batchSize 파이프라인 한 번에 보낼 항목 수
+     * @param command   항목 하나에 대해 파이프라인에 쌓을 명령
+     * @param progress  진행 상황 콜백
+     * @return 처리한 항목 수
+     */
+    public <T> long pipelineInBatches(
+            String name,
+            Collection<T> items,
+            int batchSize,
+            BiConsumer<RedisConnection, T> command,
+            ProgressListener progress
+    ) {
+        long startedAt = System.currentTimeMillis();
+        long processed = 0;
+        List<T> batch = new ArrayList<>(batchSize);
+
+        for (T item : items) {
+            batch.add(item);
+            if (batch.size() >= batchSize) {
+                processed += pipeline(batch, command);
+                progress.onProgress(processed);
+            }
+        }
+        if (!batch.isEmpty()) {
+            processed += pipeline(batch, command);
+            progress.onProgress(processed);
+        }
+
+        log.info("[RedisMaintenance][PIPELINE] {}: 처리={}건, 소요={}ms",
+                name, processed, System.currentTimeMillis() - startedAt);
+        return processed;
+    }
+
+    private long unlink(List<String> keys) {
+        Long unlinked = redisTemplate.unlink(keys);
+        keys.clear();
+        return unlinked == null ? 0 : unlinked;
+    }
+
+    private <T> int pipeline(List<T> batch, BiConsumer<RedisConnection, T> command) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            batch.forEach(item -> command.accept(connection, item));
+            return null;
+        });
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+}
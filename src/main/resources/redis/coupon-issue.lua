@@ -0,0 +1,17 @@
+-- 쿠폰 1장 발급 예약 (원자적으로 실행)
+-- KEYS[1] = coupon-stock:{code}, KEYS[2] = coupon-issued:{code}
+-- ARGV[1] = userId
+-- 반환: 0 = 발급, 1 = 재고 없음, 2 = 중복 발급, 3 = 재고 키 없음(호출 측이 DB 재고로 초기화 후 재시도)
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return 2
+end
+local stock = redis.call('GET', KEYS[1])
+if not stock then
+    return 3
+end
+if tonumber(stock) <= 0 then
+    return 1
+end
+redis.call('DECR', KEYS[1])
+redis.call('SADD', KEYS[2], ARGV[1])
+return 0
@@ -0,0 +1,8 @@
+-- 발급 예약 취소 (컨슈머 보상용). 발급 기록이 있을 때만 재고를 되돌려 중복 보상을 막습니다.
+-- KEYS[1] = coupon-stock:{code}, KEYS[2] = coupon-issued:{code}
+-- ARGV[1] = userId
+-- 반환: 복구 후 재고, 발급 기록이 없으면 -1
+if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then
+    return redis.call('INCR', KEYS[1])
+end
+return -1
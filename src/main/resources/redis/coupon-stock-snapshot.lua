@@ -0,0 +1,8 @@
+-- 재고와 발급 기록 수를 한 시점에 읽음 (발급/취소 스크립트와 섞이지 않도록 원자적으로 실행)
+-- KEYS[1] = coupon-stock:{code}, KEYS[2] = coupon-issued:{code}
+-- 반환: { 재고, 발급 기록 수 }, 재고 키가 없으면 빈 배열
+local stock = redis.call('GET', KEYS[1])
+if not stock then
+    return {}
+end
+return { tonumber(stock), redis.call('SCARD', KEYS[2]) }
@@ -0,0 +1,7 @@
+-- 락을 잡은 노드일 때만 남은 유지 시간을 바꿈 (다른 노드가 새로 잡은 락은 건드리지 않음)
+-- KEYS[1] = 락 키, ARGV[1] = 소유자 토큰, ARGV[2] = 새 유지 시간(ms)
+-- 반환: 1 = 변경, 0 = 소유자가 아님
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,31 @@
+-- 상품 리뷰 통계 증분 반영.
+-- KEYS[1] = review-stats:{productId}
+-- ARGV 는 증분마다 9개씩: 변경 시각(epoch ms), 평점 합계 증분, 리뷰 수 증분, 리뷰 작성일(yyyyMMdd, 추이 기간 밖이면 ''), 5점~1점 리뷰 수 증분
+-- 반환: 반영한 증분 수
+local seededAt = redis.call('HGET', KEYS[1], 'seededAt')
+-- 적재 전이면 반영하지 않음: 이미 커밋된 변경이므로 이후 적재하는 DB 집계에 포함됨
+if not seededAt then
+    return 0
+end
+seededAt = tonumber(seededAt)
+
+local applied = 0
+for i = 1, #ARGV, 9 do
+    -- 적재 시각보다 먼저 일어난 변경은 적재한 DB 집계에 이미 포함됨
+    if tonumber(ARGV[i]) >= seededAt then
+        redis.call('HINCRBYFLOAT', KEYS[1], 'sum', ARGV[i + 1])
+        redis.call('HINCRBY', KEYS[1], 'count', ARGV[i + 2])
+        if ARGV[i + 3] ~= '' then
+            redis.call('HINCRBYFLOAT', KEYS[1], 'd:' .. ARGV[i + 3] .. ':sum', ARGV[i + 1])
+            redis.call('HINCRBY', KEYS[1], 'd:' .. ARGV[i + 3] .. ':count', ARGV[i + 2])
+        end
+        for star = 5, 1, -1 do
+            local delta = ARGV[i + 9 - star]
+            if delta ~= '0' then
+                redis.call('HINCRBY', KEYS[1], 'star:' .. star, delta)
+            end
+        end
+        applied = applied + 1
+    end
+end
+return applied
@@ -0,0 +1,12 @@
+-- 상품 리뷰 통계 적재 시작: DB 집계 전에 적재 시각을 기록해, 그 뒤의 변경은 증분으로 더하고 그 전 변경은 건너뛰게 함.
+-- KEYS[1] = review-stats:{productId}
+-- ARGV[1] = 적재 토큰, ARGV[2] = 적재 시각(epoch ms), ARGV[3] = 적재 제한 시간(ms, 적재가 끝나지 않으면 만료되어 다시 적재)
+-- 반환: 시작했으면 1, 이미 적재됐거나 다른 적재가 진행 중이면 0
+if redis.call('HEXISTS', KEYS[1], 'seededAt') == 1 then
+    return 0
+end
+-- seededAt 이 없는 이전 형식 해시는 버리고 새로 적재
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[1], 'seededAt', ARGV[2], 'seeding', ARGV[1])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
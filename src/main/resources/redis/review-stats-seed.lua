@@ -0,0 +1,17 @@
+-- 상품 리뷰 통계 적재 완료: 적재 시작 후 반영된 증분 위에 DB 집계를 더함.
+-- KEYS[1] = review-stats:{productId}
+-- ARGV[1] = 적재 토큰, ARGV[2] = TTL(초), ARGV[3..] = 필드, 값 쌍 (합계 필드는 ':sum' 또는 'sum' 으로 끝남)
+-- 반환: 적재했으면 1, 다른 적재가 시작했거나 제한 시간이 지나 만료됐으면 0
+if redis.call('HGET', KEYS[1], 'seeding') ~= ARGV[1] then
+    return 0
+end
+for i = 3, #ARGV, 2 do
+    if string.sub(ARGV[i], -3) == 'sum' then
+        redis.call('HINCRBYFLOAT', KEYS[1], ARGV[i], ARGV[i + 1])
+    else
+        redis.call('HINCRBY', KEYS[1], ARGV[i], ARGV[i + 1])
+    end
+end
+redis.call('HDEL', KEYS[1], 'seeding')
+redis.call('EXPIRE', KEYS[1], ARGV[2])
+return 1
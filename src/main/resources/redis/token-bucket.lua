@@ -0,0 +1,31 @@
+-- 쿠폰별 토큰 버킷에서 토큰을 최대 ARGV[3] 개까지 꺼냄 (원자적으로 실행, 시간은 Redis 서버 기준)
+-- KEYS[1] = coupon-bucket:{code}, KEYS[2] = coupon-queue:{code} (선택, 주면 대기자가 있을 때 토큰을 꺼내지 않음)
+-- ARGV[1] = 초당 충전 토큰 수, ARGV[2] = 버킷 용량(순간 허용량), ARGV[3] = 요청 토큰 수
+-- 반환: 꺼낸 토큰 수
+if KEYS[2] and redis.call('ZCARD', KEYS[2]) > 0 then
+    return 0
+end
+
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+-- 버킷이 가득 찰 시간이 지나면 키를 정리 (다음 요청에서 가득 찬 상태로 다시 생성)
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate * 1000) + 1000)
+return granted
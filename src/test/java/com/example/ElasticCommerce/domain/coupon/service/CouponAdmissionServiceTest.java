@@ -0,0 +1,104 @@
+package com.example.ElasticCommerce.domain.coupon.service;
+
+import com.example.ElasticCommerce.domain.coupon.dto.request.IssueUserCouponRequest;
+import com.example.ElasticCommerce.domain.coupon.dto.response.CouponIssueResponse;
+import com.example.ElasticCommerce.domain.coupon.dto.response.CouponIssueStatus;
+import com.example.ElasticCommerce.domain.coupon.exception.CouponExceptionType;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponAdmissionRepository;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponQueueEntry;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponStockRepository;
+import com.example.ElasticCommerce.global.exception.type.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponAdmissionServiceTest {
+
+    private static final String CODE = "QUEUE";
+
+    @Mock private CouponService couponService;
+    @Mock private CouponAdmissionRepository admissionRepository;
+    @Mock private CouponStockRepository couponStockRepository;
+    @Mock private CouponSoldOutRegistry soldOutRegistry;
+
+    private CouponAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-05T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        admissionService = new CouponAdmissionService(
+                couponService, admissionRepository, couponStockRepository, soldOutRegistry, clock,
+                100, 100, 1000, 10
+        );
+    }
+
+    @Test
+    @DisplayName("대기자가 있으면 토큰을 꺼내지 못하고 대기열 뒤에 선다")
+    void issue_queuesBehindWaitingUsers() {
+        when(admissionRepository.acquireTokenIfQueueEmpty(CODE, 100, 100)).thenReturn(false);
+        when(admissionRepository.queueSize(CODE)).thenReturn(3L);
+        when(admissionRepository.rank(CODE, 4L)).thenReturn(3L);
+
+        CouponIssueResponse response = admissionService.issue(IssueUserCouponRequest.from(4L, CODE));
+
+        assertThat(response.status()).isEqualTo(CouponIssueStatus.QUEUED);
+        verify(couponService, never()).issueUserCoupon(any());
+        verify(admissionRepository).enqueue(eq(CODE), eq(4L), anyLong());
+    }
+
+    @Test
+    @DisplayName("배출 중 일시 장애로 발급하지 못한 사용자와 남은 사용자는 원래 순서로 대기열에 돌아간다")
+    void drain_requeuesUsersAfterUnexpectedFailure() {
+        List<CouponQueueEntry> popped = List.of(
+                new CouponQueueEntry(1L, 1000L),
+                new CouponQueueEntry(2L, 2000L),
+                new CouponQueueEntry(3L, 3000L)
+        );
+        when(admissionRepository.activeQueues()).thenReturn(Set.of(CODE));
+        when(admissionRepository.queueSize(CODE)).thenReturn(3L);
+        when(admissionRepository.acquireTokens(CODE, 3, 100, 100)).thenReturn(3L);
+        when(admissionRepository.popWaiting(CODE, 3L)).thenReturn(popped);
+        doThrow(new IllegalStateException("Redis 연결 실패"))
+                .when(couponService).issueUserCoupon(IssueUserCouponRequest.from(2L, CODE));
+
+        admissionService.drainQueues();
+
+        verify(couponService).issueUserCoupon(IssueUserCouponRequest.from(1L, CODE));
+        verify(couponService, never()).issueUserCoupon(IssueUserCouponRequest.from(3L, CODE));
+        verify(admissionRepository).requeue(CODE, popped.subList(1, 3));
+    }
+
+    @Test
+    @DisplayName("발급 거절(중복 등)된 사용자는 대기열에 돌아가지 않고 다음 사용자를 계속 발급한다")
+    void drain_dropsRejectedUser() {
+        List<CouponQueueEntry> popped = List.of(
+                new CouponQueueEntry(1L, 1000L),
+                new CouponQueueEntry(2L, 2000L)
+        );
+        when(admissionRepository.activeQueues()).thenReturn(Set.of(CODE));
+        when(admissionRepository.queueSize(CODE)).thenReturn(2L);
+        when(admissionRepository.acquireTokens(CODE, 2, 100, 100)).thenReturn(2L);
+        when(admissionRepository.popWaiting(CODE, 2L)).thenReturn(popped);
+        doThrow(new BadRequestException(CouponExceptionType.COUPON_DUPLICATE_ISSUE))
+                .when(couponService).issueUserCoupon(IssueUserCouponRequest.from(1L, CODE));
+
+        admissionService.drainQueues();
+
+        verify(couponService).issueUserCoupon(IssueUserCouponRequest.from(2L, CODE));
+        verify(admissionRepository, never()).requeue(anyString(), anyList());
+    }
+}
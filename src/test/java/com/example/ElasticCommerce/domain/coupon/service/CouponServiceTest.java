@@ -8,6 +8,7 @@ import com.example.ElasticCommerce.domain.coupon.dto.response.UserCouponDto;
 import com.example.ElasticCommerce.domain.coupon.entity.Coupon;
 import com.example.ElasticCommerce.domain.coupon.entity.DiscountType;
 import com.example.ElasticCommerce.domain.coupon.entity.UserCoupon;
+import com.example.ElasticCommerce.domain.coupon.repository.CouponMetadataRepository;
 import com.example.ElasticCommerce.domain.coupon.repository.CouponRepository;
 import com.example.ElasticCommerce.domain.coupon.repository.CouponStockRepository;
 import com.example.ElasticCommerce.domain.coupon.repository.UserCouponRepository;
@@ -89,6 +90,12 @@ class CouponServiceTest {
     @Autowired
     private CouponStockRepository couponStockRepository;
     @Autowired
+    private CouponMetadataRepository couponMetadataRepository;
+    @Autowired
+    private CouponMetadataCache couponMetadataCache;
+    @Autowired
+    private CouponSoldOutRegistry couponSoldOutRegistry;
+    @Autowired
     private Clock clock;
     @Autowired
     private ObjectMapper objectMapper;
@@ -113,6 +120,9 @@ class CouponServiceTest {
 
         // 2) Redis 초기화 (키 전부 삭제)
         couponStockRepository.deleteAllKeys();
+        couponMetadataRepository.deleteAllKeys();
+        couponMetadataCache.evictLocal();
+        couponSoldOutRegistry.clearAll();
 
         // 3) 테스트용 유저 생성 → 즉시 커밋
         testUser = userRepository.save(
@@ -267,8 +277,14 @@ class CouponServiceTest {
         assertThat(uc.getUser().getUserId()).isEqualTo(testUser.getUserId());
         assertThat(uc.isUsed()).isFalse();
 
-        Coupon updated = couponRepository.findById(coupon.getCouponId()).orElseThrow();
-        assertThat(updated.getQuantity()).isEqualTo(4);
+        // ─── 5) coupons.quantity 는 재고 동기화 스케줄러가 Redis 재고를 반영할 때까지 대기 ───────
+        Awaitility.await()
+                  .pollInterval(Duration.ofMillis(100))
+                  .atMost(Duration.ofSeconds(5))
+                  .untilAsserted(() -> {
+                      Coupon updated = couponRepository.findById(coupon.getCouponId()).orElseThrow();
+                      assertThat(updated.getQuantity()).isEqualTo(4);
+                  });
     }
 
     @Test
@@ -311,6 +327,29 @@ class CouponServiceTest {
                 .isInstanceOf(BadRequestException.class);
     }
 
+    @Test
+    @DisplayName("사용자에게 쿠폰 발급 실패 - 중복 발급")
+    void testIssueUserCoupon_Fail_Duplicate() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Coupon coupon = Coupon.builder()
+                              .couponCode("ONCE")
+                              .discountType(DiscountType.FIXED)
+                              .discountValue(100L)
+                              .minimumOrderAmount(0L)
+                              .expirationDate(now.plusDays(1))
+                              .quantity(10)
+                              .build();
+        couponRepository.saveAndFlush(coupon);
+
+        IssueUserCouponRequest dto = new IssueUserCouponRequest(testUser.getUserId(), "ONCE");
+        couponService.issueUserCoupon(dto);
+
+        // 두 번째 요청은 Redis 발급 기록으로 걸러지고 재고는 한 번만 차감된다
+        assertThatThrownBy(() -> couponService.issueUserCoupon(dto))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(couponStockRepository.getStock("ONCE")).isEqualTo(9L);
+    }
+
     @Test
     @DisplayName("쿠폰 적용 성공 - 정액 할인")
     void testApplyCoupon_Success_Fixed() {
@@ -541,6 +580,17 @@ class CouponServiceTest {
                       .quantity(10)
                       .build()
         );
+        // (사용자, 쿠폰) 유니크 키: 한 사용자는 같은 쿠폰을 한 장만 가짐
+        Coupon otherCoupon = couponRepository.saveAndFlush(
+                Coupon.builder()
+                      .couponCode("USERALL2")
+                      .discountType(DiscountType.FIXED)
+                      .discountValue(5L)
+                      .minimumOrderAmount(0L)
+                      .expirationDate(now.plusDays(2))
+                      .quantity(10)
+                      .build()
+        );
 
         UserCoupon uc1 = userCouponRepository.save(
                 UserCoupon.builder()
@@ -550,7 +600,7 @@ class CouponServiceTest {
         );
         UserCoupon uc2 = userCouponRepository.save(
                 UserCoupon.builder()
-                          .coupon(coupon)
+                          .coupon(otherCoupon)
                           .user(testUser)
                           .build()
         );
@@ -1,5 +1,6 @@
 package com.example.ElasticCommerce.domain.order.service;
 
+import com.example.ElasticCommerce.domain.order.dto.event.OrderChangedEvent;
 import com.example.ElasticCommerce.domain.order.dto.request.CreateOrderRequest;
 import com.example.ElasticCommerce.domain.order.dto.request.UpdateOrderStatusRequest;
 import com.example.ElasticCommerce.domain.order.dto.response.OrderDto;
@@ -7,8 +8,10 @@ import com.example.ElasticCommerce.domain.order.entity.Address;
 import com.example.ElasticCommerce.domain.order.entity.Order;
 import com.example.ElasticCommerce.domain.order.entity.OrderItem;
 import com.example.ElasticCommerce.domain.order.entity.OrderStatus;
+import com.example.ElasticCommerce.domain.order.entity.OrderSummary;
 import com.example.ElasticCommerce.domain.order.exception.OrderExceptionType;
 import com.example.ElasticCommerce.domain.order.repository.OrderRepository;
+import com.example.ElasticCommerce.domain.order.repository.OrderSummaryRepository;
 import com.example.ElasticCommerce.domain.product.entity.Product;
 import com.example.ElasticCommerce.domain.product.repository.ProductRepository;
 import com.example.ElasticCommerce.domain.user.entity.User;
@@ -23,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -30,6 +34,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -40,6 +45,9 @@ class OrderServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private OrderRepository orderRepository;
     @Mock private ProductRepository productRepository;
+    @Mock private OrderStockReservation stockReservation;
+    @Mock private OrderSummaryRepository orderSummaryRepository;
+    @Mock private ApplicationEventPublisher eventPublisher;
     @InjectMocks private OrderService orderService;
 
     private User testUser;
@@ -118,7 +126,7 @@ class OrderServiceTest {
             );
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-            when(productRepository.findById(productA.getId())).thenReturn(Optional.of(productA));
+            when(productRepository.findAllById(Set.of(productA.getId()))).thenReturn(List.of(productA));
             when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
             OrderDto dto = orderService.createOrder(1L, req);
@@ -127,7 +135,6 @@ class OrderServiceTest {
             assertThat(dto.userId()).isEqualTo(1L);
             assertThat(dto.items()).hasSize(1);
             assertThat(dto.items().get(0).productId()).isEqualTo(productA.getId());
-            assertThat(productA.getStockQuantity()).isEqualTo(3);
 
             assertThat(dto.address()).satisfies(addr -> {
                 assertThat(addr.recipientName()).isEqualTo("홍길동");
@@ -137,7 +144,29 @@ class OrderServiceTest {
                 assertThat(addr.phoneNumber()).isEqualTo("010-1234-5678");
             });
 
+            verify(stockReservation).reserve(argThat(items -> items.size() == 1));
             verify(orderRepository).save(any(Order.class));
+            verify(eventPublisher).publishEvent(any(OrderChangedEvent.class));
+        }
+
+        @Test
+        @DisplayName("실패: 재고가 부족하면 BadRequestException, 주문 저장 안 함")
+        void 실패_재고가_부족하면_BadRequestException() {
+            CreateOrderRequest req = new CreateOrderRequest(
+                    List.of(new CreateOrderRequest.OrderItemRequest(productA.getId(), 6)),
+                    new CreateOrderRequest.AddressRequest(
+                            "홍길동", "서울시 강남구 테헤란로 123", "서울", "06236", "010-1234-5678"
+                    )
+            );
+
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+            when(productRepository.findAllById(Set.of(productA.getId()))).thenReturn(List.of(productA));
+
+            assertThatThrownBy(() -> orderService.createOrder(1L, req))
+                    .isInstanceOf(BadRequestException.class)
+                    .hasMessageContaining(OrderExceptionType.OUT_OF_STOCK.getMessage());
+            verify(stockReservation, never()).reserve(anyList());
+            verify(orderRepository, never()).save(any(Order.class));
         }
 
         @Test
@@ -195,10 +224,10 @@ class OrderServiceTest {
         @DisplayName("성공: 페이징된 주문 목록 조회")
         void 성공_페이징된_주문_목록_조회() {
             Order o1 = createDummyOrderWithAddress(101L, List.of(itemA));
-            Page<Order> page = new PageImpl<>(List.of(o1));
+            Page<OrderSummary> page = new PageImpl<>(List.of(OrderSummary.from(o1)));
 
             when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-            when(orderRepository.findAllByUserUserId(eq(1L), any(PageRequest.class)))
+            when(orderSummaryRepository.findPageByUserId(eq(1L), any(PageRequest.class)))
                     .thenReturn(page);
 
             Page<OrderDto> result = orderService.listOrders(1L, 0, 5);
@@ -245,6 +274,20 @@ class OrderServiceTest {
             assertThatThrownBy(() -> orderService.updateOrderStatus(1L, 200L, req))
                     .isInstanceOf(BadRequestException.class);
         }
+
+        @Test
+        @DisplayName("성공: CANCELLED 로 변경하면 취소 흐름을 따라 재고를 복원한다")
+        void 성공_취소_상태_변경시_재고_복원() {
+            Order order = createDummyOrderWithAddress(200L, List.of(itemA));
+            when(orderRepository.findByIdAndUserId(200L, 1L))
+                    .thenReturn(Optional.of(order));
+
+            UpdateOrderStatusRequest req = new UpdateOrderStatusRequest("CANCELLED");
+            OrderDto dto = orderService.updateOrderStatus(1L, 200L, req);
+
+            assertThat(dto.status()).isEqualTo(OrderStatus.CANCELLED.name());
+            verify(stockReservation).release(order.getItems());
+        }
     }
 
     @Nested
@@ -257,11 +300,10 @@ class OrderServiceTest {
             when(orderRepository.findByIdAndUserId(300L, 1L))
                     .thenReturn(Optional.of(order));
 
-            productA.updateStockQuantity(5);
             OrderDto dto = orderService.cancelOrder(1L, 300L);
 
             assertThat(dto.status()).isEqualTo(OrderStatus.CANCELLED.name());
-            assertThat(productA.getStockQuantity()).isEqualTo(7);
+            verify(stockReservation).release(order.getItems());
         }
 
         @Test
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -43,6 +44,8 @@ class PaymentServiceTest {
     private PaymentRepository paymentRepository;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private PaymentService paymentService;
 
@@ -209,8 +212,8 @@ class PaymentServiceTest {
                                     .status(PaymentStatus.COMPLETED)
                                     .build();
                 ReflectionTestUtils.setField(p1, "id", 400L);
-                Page<Payment> page = new PageImpl<>(List.of(p1));
-                when(paymentRepository.findAllByUserId(eq(1L), any(PageRequest.class)))
+                Page<PaymentDto> page = new PageImpl<>(List.of(PaymentDto.from(p1)));
+                when(paymentRepository.findDtosByUserId(eq(1L), any(PageRequest.class)))
                         .thenReturn(page);
 
                 Page<PaymentDto> result = paymentService.listUserPayments(1L, 0, 5);
@@ -244,8 +247,8 @@ class PaymentServiceTest {
                                     .status(PaymentStatus.COMPLETED)
                                     .build();
                 ReflectionTestUtils.setField(p1, "id", 500L);
-                Page<Payment> page = new PageImpl<>(List.of(p1));
-                when(paymentRepository.findAll(any(PageRequest.class)))
+                Page<PaymentDto> page = new PageImpl<>(List.of(PaymentDto.from(p1)));
+                when(paymentRepository.findAllDtos(any(PageRequest.class)))
                         .thenReturn(page);
 
                 Page<PaymentDto> result = paymentService.listAllPayments(0, 10);
@@ -0,0 +1,103 @@
+package com.example.ElasticCommerce.domain.product.repository;
+
+import com.example.ElasticCommerce.domain.product.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = productRepository.saveAndFlush(
+                Product.builder()
+                       .productCode("P-RATING")
+                       .name("Rating Product")
+                       .category("Cat")
+                       .stockQuantity(10)
+                       .brand("Brand")
+                       .imageUrl("url")
+                       .description("desc")
+                       .price(1000L)
+                       .build()
+        ).getId();
+    }
+
+    private Product reload() {
+        return productRepository.findById(productId).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("평점 증분은 갱신 전 합계/수에 증분을 더한 값으로 평균을 계산한다")
+    void applyRatingDelta_updatesAverageFromNewTotals() {
+        assertThat(productRepository.applyRatingDelta(productId, 4.0, 1)).isEqualTo(1);
+        assertThat(reload().getRating()).isEqualTo(4.0);
+
+        productRepository.applyRatingDelta(productId, 2.0, 1);
+        Product product = reload();
+        assertThat(product.getRatingSum()).isEqualTo(6.0);
+        assertThat(product.getRatingCount()).isEqualTo(2L);
+        assertThat(product.getRating()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("마지막 리뷰가 삭제되어 리뷰 수가 0 이 되면 평균은 0 이다")
+    void applyRatingDelta_resetsAverageWhenNoReviewsLeft() {
+        productRepository.applyRatingDelta(productId, 5.0, 1);
+        productRepository.applyRatingDelta(productId, -5.0, -1);
+
+        Product product = reload();
+        assertThat(product.getRatingCount()).isZero();
+        assertThat(product.getRating()).isZero();
+    }
+
+    @Test
+    @DisplayName("없는 상품의 평점 증분은 반영되지 않는다")
+    void applyRatingDelta_missingProduct() {
+        assertThat(productRepository.applyRatingDelta(productId + 1, 4.0, 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("평점 보정은 관찰한 합계/수가 그대로일 때만 덮어쓴다")
+    void resetRating_overwritesWhenObservedValuesUnchanged() {
+        productRepository.applyRatingDelta(productId, 4.0, 1);
+
+        int updated = productRepository.resetRating(productId, 4.0, 1, 9.0, 2, 4.5);
+
+        assertThat(updated).isEqualTo(1);
+        Product product = reload();
+        assertThat(product.getRatingSum()).isEqualTo(9.0);
+        assertThat(product.getRatingCount()).isEqualTo(2L);
+        assertThat(product.getRating()).isEqualTo(4.5);
+    }
+
+    @Test
+    @DisplayName("관찰 후 증분이 반영돼 합계/수가 바뀌었으면 평점 보정을 건너뛴다")
+    void resetRating_skipsWhenDeltaAppliedSinceObservation() {
+        productRepository.applyRatingDelta(productId, 4.0, 1);
+        // 보정 작업이 4.0/1 을 관찰한 뒤 새 리뷰 증분이 반영됨
+        productRepository.applyRatingDelta(productId, 2.0, 1);
+
+        int updated = productRepository.resetRating(productId, 4.0, 1, 9.0, 2, 4.5);
+
+        assertThat(updated).isZero();
+        Product product = reload();
+        assertThat(product.getRatingSum()).isEqualTo(6.0);
+        assertThat(product.getRatingCount()).isEqualTo(2L);
+        assertThat(product.getRating()).isEqualTo(3.0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.ElasticCommerce.domain.product.service.autocomplete;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AutocompleteTrieTest {
+
+    private AutocompleteTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new AutocompleteTrie(10);
+        trie.load("1", "삼성 갤럭시 S24", 4.5);
+        trie.load("2", "삼성 노트북", 4.8);
+        trie.load("3", "사과 주스", 3.0);
+        trie.load("4", "Apple 맥북 프로", 4.9);
+        trie.finishLoad();
+    }
+
+    @Test
+    @DisplayName("입력 중인 자모 접두어도 완성된 음절과 매칭된다")
+    void search_matchesPartialJamo() {
+        assertThat(trie.search(HangulNormalizer.normalize("삼ㅅ"), 5))
+                .containsExactly("삼성 노트북", "삼성 갤럭시 S24");
+        // "사ㄱ" 입력 중 조합 상태인 "삭" 도 "사과" 의 접두어
+        assertThat(trie.search(HangulNormalizer.normalize("삭"), 5))
+                .containsExactly("사과 주스");
+    }
+
+    @Test
+    @DisplayName("단어 중간부터 입력해도 매칭되고, 결과는 가중치 순이다")
+    void search_matchesWordStartsByWeight() {
+        assertThat(trie.search(HangulNormalizer.normalize("갤럭"), 5)).containsExactly("삼성 갤럭시 S24");
+        assertThat(trie.search(HangulNormalizer.normalize("APPLE"), 5)).containsExactly("Apple 맥북 프로");
+        assertThat(trie.search(HangulNormalizer.normalize("ㅅ"), 5))
+                .containsExactly("삼성 노트북", "삼성 갤럭시 S24", "사과 주스");
+    }
+
+    @Test
+    @DisplayName("삭제와 가중치 변경이 즉시 반영된다")
+    void putRemoveAndUpdateWeight() {
+        trie.remove("2");
+        trie.updateWeight("3", 5.0);
+        trie.put("5", "삼양 라면", 1.0);
+
+        assertThat(trie.search(HangulNormalizer.normalize("ㅅ"), 5))
+                .containsExactly("사과 주스", "삼성 갤럭시 S24", "삼양 라면");
+        assertThat(trie.search(HangulNormalizer.normalize("삼성 노"), 5)).isEmpty();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.ElasticCommerce.domain.product.service.kafka;
+
+import com.example.ElasticCommerce.domain.product.dto.kafka.ProductElasticDTO;
+import com.example.ElasticCommerce.domain.product.service.kafka.ProductEventCoalescer.PendingEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductEventCoalescerTest {
+
+    private final ProductEventCoalescer coalescer = new ProductEventCoalescer();
+
+    @Test
+    @DisplayName("같은 상품 id 는 오프셋이 가장 뒤인 이벤트 하나만 남는다")
+    void coalesce_keepsNewestPerId() {
+        List<PendingEvent> result = coalescer.coalesce(List.of(
+                event("1", "UPDATE_STOCK", 10, 0L),
+                event("2", "UPDATE", 5, 1L),
+                event("1", "UPDATE_STOCK", 7, 2L),
+                event("1", "UPDATE_STOCK", 3, 3L)
+        ));
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).id()).isEqualTo("1");
+        assertThat(result.get(0).event().stockQuantity()).isEqualTo(3);
+        assertThat(result.get(1).id()).isEqualTo("2");
+    }
+
+    @Test
+    @DisplayName("DELETE 는 앞뒤의 upsert 이벤트보다 우선한다")
+    void coalesce_deleteWins() {
+        List<PendingEvent> result = coalescer.coalesce(List.of(
+                event("1", "UPDATE", 10, 0L),
+                event("1", "DELETE", 10, 1L),
+                event("1", "UPDATE_STOCK", 9, 2L)
+        ));
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).isDelete()).isTrue();
+    }
+
+    @Test
+    @DisplayName("전체 이벤트 뒤의 부분 이벤트는 변경된 필드만 덮어쓴다")
+    void coalesce_overlaysPartialEvents() {
+        List<PendingEvent> result = coalescer.coalesce(List.of(
+                event("1", "UPDATE", 10, 0L),
+                pending(new ProductElasticDTO("1", null, null, null, 4, null, null, true,
+                        null, null, null, "UPDATE_STOCK"), 1L),
+                pending(new ProductElasticDTO("1", null, null, null, null, null, null, null,
+                        null, null, 3.8, "UPDATE_RATING"), 2L)
+        ));
+
+        assertThat(result).hasSize(1);
+        ProductElasticDTO merged = result.get(0).event();
+        assertThat(merged.eventType()).isEqualTo("UPDATE");
+        assertThat(merged.name()).isEqualTo("상품1");
+        assertThat(merged.stockQuantity()).isEqualTo(4);
+        assertThat(merged.rating()).isEqualTo(3.8);
+    }
+
+    @Test
+    @DisplayName("부분 이벤트끼리는 필드를 합쳐 부분 업데이트로 남는다")
+    void coalesce_mergesPartialEvents() {
+        List<PendingEvent> result = coalescer.coalesce(List.of(
+                pending(new ProductElasticDTO("1", null, null, null, 4, null, null, true,
+                        null, null, null, "UPDATE_STOCK"), 0L),
+                pending(new ProductElasticDTO("1", null, null, null, null, null, null, null,
+                        null, null, 3.8, "UPDATE_RATING"), 1L)
+        ));
+
+        assertThat(result).hasSize(1);
+        ProductElasticDTO merged = result.get(0).event();
+        assertThat(merged.isPartial()).isTrue();
+        assertThat(merged.partialFields())
+                .containsOnlyKeys("stockQuantity", "available", "rating");
+    }
+
+    private PendingEvent event(String id, String eventType, int stock, long offset) {
+        ProductElasticDTO dto = new ProductElasticDTO(
+                id, "P-" + id, "상품" + id, "Cat", stock, "Brand", "url", true, "desc", 1000L, 4.5, eventType
+        );
+        return pending(dto, offset);
+    }
+
+    private PendingEvent pending(ProductElasticDTO dto, long offset) {
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(
+                "product-topic", 0, offset, offset, TimestampType.CREATE_TIME,
+                -1, -1, dto.id(), "", new RecordHeaders(), Optional.empty()
+        );
+        return new PendingEvent(record, dto);
+    }
+}
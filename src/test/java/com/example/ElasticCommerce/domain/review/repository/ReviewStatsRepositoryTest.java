@@ -0,0 +1,171 @@
+package com.example.ElasticCommerce.domain.review.repository;
+
+import com.example.ElasticCommerce.domain.review.dto.kafka.ProductRatingKafkaDTO;
+import com.example.ElasticCommerce.domain.review.repository.ReviewStatsRepository.ReviewStatsSeed;
+import com.example.ElasticCommerce.domain.review.repository.ReviewStatsRepository.ReviewStatsSnapshot;
+import com.example.ElasticCommerce.global.redis.RedisKeyspaceMaintenance;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 리뷰 통계 적재/증분 스크립트를 실제 Redis 에서 검증합니다.
+ */
+@Testcontainers
+class ReviewStatsRepositoryTest {
+
+    private static final Long      PRODUCT_ID  = 1L;
+    private static final String    TOKEN       = "seed-token";
+    private static final long      SEEDED_AT   = 10_000L;
+    private static final LocalDate TODAY       = LocalDate.of(2025, 6, 5);
+    private static final LocalDate TREND_START = TODAY.minusDays(6);
+    private static final Duration  TTL         = Duration.ofHours(24);
+
+    @Container
+    static GenericContainer<?> redisContainer =
+            new GenericContainer<>("redis:6.2-alpine")
+                    .withExposedPorts(6379)
+                    .waitingFor(Wait.forListeningPort());
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate      redisTemplate;
+
+    private ReviewStatsRepository reviewStatsRepository;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisContainer.getHost(), redisContainer.getMappedPort(6379))
+        );
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        reviewStatsRepository = new ReviewStatsRepository(redisTemplate, new RedisKeyspaceMaintenance(redisTemplate));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 증분을 반영하지 않는다 (이후 DB 집계에 포함됨)")
+    void applyDeltas_ignoresUnseededProduct() {
+        reviewStatsRepository.applyDeltas(Map.of(PRODUCT_ID, List.of(created(4.0, TODAY, SEEDED_AT))), TREND_START);
+
+        assertThat(redisTemplate.hasKey("review-stats:" + PRODUCT_ID)).isFalse();
+        assertThat(snapshot().total()).isNull();
+    }
+
+    @Test
+    @DisplayName("적재 시각보다 먼저 일어난 증분은 건너뛰고, 이후 증분만 DB 집계 위에 더한다")
+    void seed_countsEachChangeOnce() {
+        reviewStatsRepository.reserveSeed(List.of(PRODUCT_ID), TOKEN, SEEDED_AT, Duration.ofMinutes(1));
+
+        // 적재 중 소비된 증분: 적재 전 변경(DB 집계에 포함)과 적재 후 변경
+        reviewStatsRepository.applyDeltas(Map.of(PRODUCT_ID, List.of(
+                created(5.0, TODAY, SEEDED_AT - 1),
+                created(3.0, TODAY, SEEDED_AT + 1)
+        )), TREND_START);
+        assertThat(snapshot().total()).isNull();
+
+        // DB 집계: 5점 리뷰 1건 (오늘 작성)
+        ReviewStatsCounters dbTotal = new ReviewStatsCounters(5.0, 1L, Map.of(5, 1L));
+        reviewStatsRepository.completeSeed(
+                Map.of(PRODUCT_ID, new ReviewStatsSeed(dbTotal, Map.of(TODAY, new ReviewStatsCounters(5.0, 1L, Map.of())))),
+                TOKEN, TTL
+        );
+
+        // 적재 후 소비된 증분도 시각으로 판단
+        reviewStatsRepository.applyDeltas(Map.of(PRODUCT_ID, List.of(
+                created(1.0, TODAY, SEEDED_AT - 1),
+                created(4.0, TODAY, SEEDED_AT + 2)
+        )), TREND_START);
+
+        ReviewStatsSnapshot snapshot = snapshot();
+        assertThat(snapshot.total().reviewCount()).isEqualTo(3L);
+        assertThat(snapshot.total().ratingSum()).isEqualTo(12.0);
+        assertThat(snapshot.total().histogram()).containsEntry(5, 1L).containsEntry(4, 1L).containsEntry(3, 1L).containsEntry(1, 0L);
+        assertThat(snapshot.recent().reviewCount()).isEqualTo(3L);
+        assertThat(redisTemplate.getExpire("review-stats:" + PRODUCT_ID)).isGreaterThan(Duration.ofMinutes(1).toSeconds());
+    }
+
+    @Test
+    @DisplayName("이미 적재된 통계는 다시 적재하지 않고, 다른 토큰의 완료는 무시한다")
+    void seed_keepsExistingStats() {
+        reviewStatsRepository.reserveSeed(List.of(PRODUCT_ID), TOKEN, SEEDED_AT, Duration.ofMinutes(1));
+        reviewStatsRepository.completeSeed(
+                Map.of(PRODUCT_ID, new ReviewStatsSeed(new ReviewStatsCounters(4.0, 1L, Map.of(4, 1L)), Map.of())),
+                TOKEN, TTL
+        );
+
+        reviewStatsRepository.reserveSeed(List.of(PRODUCT_ID), "other-token", SEEDED_AT + 100, Duration.ofMinutes(1));
+        reviewStatsRepository.completeSeed(
+                Map.of(PRODUCT_ID, new ReviewStatsSeed(new ReviewStatsCounters(4.0, 1L, Map.of(4, 1L)), Map.of())),
+                "other-token", TTL
+        );
+
+        ReviewStatsSnapshot snapshot = snapshot();
+        assertThat(snapshot.total().reviewCount()).isEqualTo(1L);
+        assertThat(snapshot.total().ratingSum()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("최근 추이는 리뷰 작성일 기준이며, 추이 기간 밖 리뷰의 증분은 누적 통계에만 반영한다")
+    void applyDeltas_keysTrendByReviewDate() {
+        seedEmpty();
+
+        reviewStatsRepository.applyDeltas(Map.of(PRODUCT_ID, List.of(
+                created(5.0, TODAY.minusDays(2), SEEDED_AT + 1),
+                created(3.0, TREND_START.minusDays(1), SEEDED_AT + 2),
+                new ProductRatingKafkaDTO(PRODUCT_ID, -2.0, 0L, Map.of(5, -1L, 3, 1L), TODAY.minusDays(2), SEEDED_AT + 3)
+        )), TREND_START);
+
+        ReviewStatsSnapshot snapshot = snapshot();
+        assertThat(snapshot.total().reviewCount()).isEqualTo(2L);
+        assertThat(snapshot.total().ratingSum()).isEqualTo(6.0);
+        assertThat(snapshot.total().histogram()).containsEntry(5, 0L).containsEntry(3, 2L);
+        assertThat(snapshot.recent().reviewCount()).isEqualTo(1L);
+        assertThat(snapshot.recent().ratingSum()).isEqualTo(3.0);
+    }
+
+    private void seedEmpty() {
+        reviewStatsRepository.reserveSeed(List.of(PRODUCT_ID), TOKEN, SEEDED_AT, Duration.ofMinutes(1));
+        reviewStatsRepository.completeSeed(
+                Map.of(PRODUCT_ID, new ReviewStatsSeed(ReviewStatsCounters.empty(), Map.of())), TOKEN, TTL
+        );
+    }
+
+    private ReviewStatsSnapshot snapshot() {
+        List<LocalDate> days = TREND_START.datesUntil(TODAY.plusDays(1)).toList();
+        return reviewStatsRepository.findStats(List.of(PRODUCT_ID), days).get(PRODUCT_ID);
+    }
+
+    private ProductRatingKafkaDTO created(double rating, LocalDate reviewDate, long occurredAt) {
+        return new ProductRatingKafkaDTO(PRODUCT_ID, rating, 1L, Map.of((int) rating, 1L), reviewDate, occurredAt);
+    }
+}
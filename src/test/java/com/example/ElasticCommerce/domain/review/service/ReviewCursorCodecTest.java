@@ -0,0 +1,62 @@
+package com.example.ElasticCommerce.domain.review.service;
+
+import com.example.ElasticCommerce.domain.review.dto.request.ReviewSort;
+import com.example.ElasticCommerce.domain.review.exception.ReviewExceptionType;
+import com.example.ElasticCommerce.global.exception.type.BadRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReviewCursorCodecTest {
+
+    private final ReviewCursorCodec codec = new ReviewCursorCodec(new ObjectMapper());
+
+    @Test
+    @DisplayName("인코딩한 커서는 같은 정렬로 디코딩하면 정렬 값이 그대로 복원된다")
+    void decode_roundTrip() {
+        String cursor = codec.encode(ReviewSort.LATEST, List.of(1717545600000L, "42"));
+
+        ReviewCursorCodec.ReviewCursor decoded = codec.decode(ReviewSort.LATEST, cursor);
+
+        assertThat(decoded.searchAfter()).containsExactly(1717545600000L, "42");
+    }
+
+    @Test
+    @DisplayName("다른 정렬로 만든 커서는 거부한다")
+    void decode_rejectsOtherSort() {
+        String cursor = codec.encode(ReviewSort.RATING_HIGH, List.of(4.5, "42"));
+
+        assertInvalid(() -> codec.decode(ReviewSort.LATEST, cursor));
+    }
+
+    @Test
+    @DisplayName("정렬 값 타입이 맞지 않는 커서는 거부한다")
+    void decode_rejectsWrongValueTypes() {
+        assertInvalid(() -> codec.decode(ReviewSort.LATEST, raw("{\"sort\":\"LATEST\",\"searchAfter\":[\"abc\",\"42\"]}")));
+        assertInvalid(() -> codec.decode(ReviewSort.LATEST, raw("{\"sort\":\"LATEST\",\"searchAfter\":[1717545600000,{\"id\":42}]}")));
+        assertInvalid(() -> codec.decode(ReviewSort.LATEST, raw("{\"sort\":\"LATEST\",\"searchAfter\":[null,\"42\"]}")));
+    }
+
+    @Test
+    @DisplayName("base64 가 아닌 커서는 거부한다")
+    void decode_rejectsMalformedCursor() {
+        assertInvalid(() -> codec.decode(ReviewSort.LATEST, "%%%"));
+    }
+
+    private String raw(String json) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void assertInvalid(ThrowableAssert.ThrowingCallable decode) {
+        assertThatThrownBy(decode)
+                .isInstanceOf(BadRequestException.class)
+                .hasMessageContaining(ReviewExceptionType.INVALID_CURSOR.getMessage());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    private static final int SHARD = 3;
+
+    @Mock private OutboxBatchStore outboxBatchStore;
+    @Mock private KafkaTemplate<String, String> kafkaTemplate;
+
+    private OutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxDispatcher = new OutboxDispatcher(outboxBatchStore, kafkaTemplate, 500, 1000, 30000);
+    }
+
+    private OutboxEvent event(long id, String key) {
+        OutboxEvent event = OutboxEvent.builder()
+                                       .topic("product-topic")
+                                       .messageKey(key)
+                                       .payload("{\"id\":\"" + key + "\"}")
+                                       .shard(SHARD)
+                                       .createdAt(LocalDateTime.of(2025, 6, 5, 0, 0))
+                                       .build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+
+    private void claims(OutboxEvent... events) {
+        when(outboxBatchStore.claim(anyString(), any(), eq(500)))
+                .thenReturn(Optional.of(new OutboxBatch(SHARD, List.of(events))));
+    }
+
+    @Test
+    @DisplayName("잡을 shard 가 없으면 아무것도 보내지 않는다")
+    void noLeasableShard() {
+        when(outboxBatchStore.claim(anyString(), any(), eq(500))).thenReturn(Optional.empty());
+
+        assertThat(outboxDispatcher.dispatchNextShard()).isEmpty();
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("전송이 확인된 앞부분만 삭제하고, 실패한 메시지부터는 뒤 메시지가 성공해도 남긴다")
+    void deletesOnlyAcknowledgedPrefix() {
+        claims(event(1L, "A"), event(2L, "B"), event(3L, "A"));
+        when(kafkaTemplate.send("product-topic", "A", "{\"id\":\"A\"}"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send("product-topic", "B", "{\"id\":\"B\"}"))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("브로커 응답 없음")));
+
+        Optional<Integer> sent = outboxDispatcher.dispatchNextShard();
+
+        assertThat(sent).contains(1);
+        verify(outboxBatchStore).complete(eq(SHARD), anyString(), eq(List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("send 자체가 실패하면 이후 메시지는 보내지 않고 확인된 앞부분만 삭제한 뒤 임대를 푼다")
+    void stopsAtFirstSendFailure() {
+        claims(event(1L, "A"), event(2L, "B"), event(3L, "C"));
+        when(kafkaTemplate.send("product-topic", "A", "{\"id\":\"A\"}"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send("product-topic", "B", "{\"id\":\"B\"}"))
+                .thenThrow(new IllegalStateException("메타데이터 대기 시간 초과"));
+
+        Optional<Integer> sent = outboxDispatcher.dispatchNextShard();
+
+        assertThat(sent).contains(1);
+        verify(kafkaTemplate, never()).send("product-topic", "C", "{\"id\":\"C\"}");
+        verify(outboxBatchStore).complete(eq(SHARD), anyString(), eq(List.of(1L)));
+    }
+
+    @Test
+    @DisplayName("모두 전송되면 배치 전체를 삭제한다")
+    void deletesWholeBatch() {
+        claims(event(1L, "A"), event(2L, "B"));
+        when(kafkaTemplate.send(eq("product-topic"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThat(outboxDispatcher.dispatchNextShard()).contains(2);
+        verify(outboxBatchStore).complete(eq(SHARD), anyString(), eq(List.of(1L, 2L)));
+    }
+}
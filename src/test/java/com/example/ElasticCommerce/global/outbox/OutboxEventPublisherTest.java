@@ -0,0 +1,96 @@
+package com.example.ElasticCommerce.global.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@Import({OutboxEventPublisher.class, OutboxEventPublisherTest.Config.class})
+@TestPropertySource(properties = "outbox.shard-count=4")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxEventPublisherTest {
+
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        public Clock clock() {
+            return Clock.fixed(Instant.parse("2025-06-05T00:00:00Z"), ZoneId.of("Asia/Seoul"));
+        }
+
+        @Bean
+        public ObjectMapper objectMapper() {
+            return new ObjectMapper().registerModule(new JavaTimeModule());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("도메인 트랜잭션이 롤백되면 outbox 메시지도 남지 않는다")
+    void rollbackLeavesNoOutboxRow() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> tx.executeWithoutResult(status -> {
+            outboxEventPublisher.publish("product-topic", "1", Map.of("id", "1"));
+            throw new IllegalStateException("도메인 변경 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(outboxEventRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋되면 키에 맞는 shard 로 메시지가 적재된다")
+    void commitStoresMessageInKeyShard() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> outboxEventPublisher.publish("product-topic", "42", Map.of("id", "42")));
+
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getMessageKey()).isEqualTo("42");
+        assertThat(events.get(0).getShard()).isEqualTo(Math.floorMod("42".hashCode(), 4));
+        assertThat(events.get(0).getPayload()).isEqualTo("{\"id\":\"42\"}");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 적재할 수 없다")
+    void requiresTransaction() {
+        assertThatThrownBy(() -> outboxEventPublisher.publish("product-topic", "1", Map.of("id", "1")))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+}